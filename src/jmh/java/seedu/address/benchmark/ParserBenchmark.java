@@ -0,0 +1,62 @@
+package seedu.address.benchmark;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INTENTION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRICE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_TYPE;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Benchmarks tokenizing and parsing of user commands.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+
+    private static final String ADD_ARGUMENTS = " i/sell n/Alex Yeoh p/87438807 e/alexyeoh@example.com"
+            + " a/Blk 30 Geylang Street 29, #06-40 pt/hdb 3-room flat pr/460,000";
+    private static final String ADD_COMMAND = "add" + ADD_ARGUMENTS;
+    private static final String FIND_COMMAND = "find n/alex yeoh a/geylang pr/400000 - 600000 i/sell";
+
+    private final AddressBookParser parser = new AddressBookParser();
+
+    @Benchmark
+    public ArgumentMultimap tokenize() {
+        return ArgumentTokenizer.tokenize(ADD_ARGUMENTS, PREFIX_INTENTION, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+                PREFIX_ADDRESS, PREFIX_PROPERTY_TYPE, PREFIX_PRICE);
+    }
+
+    @Benchmark
+    public Command parseAddCommand() throws ParseException {
+        return parser.parseCommand(ADD_COMMAND);
+    }
+
+    @Benchmark
+    public Command parseFindCommand() throws ParseException {
+        return parser.parseCommand(FIND_COMMAND);
+    }
+}
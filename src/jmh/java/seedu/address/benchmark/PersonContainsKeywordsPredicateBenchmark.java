@@ -0,0 +1,89 @@
+package seedu.address.benchmark;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+
+/**
+ * Benchmarks {@code PersonContainsKeywordsPredicate#test} over a list of persons.
+ * The time reported is per person tested.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersonContainsKeywordsPredicateBenchmark {
+
+    private static final int PERSON_COUNT = 10_000;
+
+    private List<Person> persons;
+    private PersonContainsKeywordsPredicate namePredicate;
+    private PersonContainsKeywordsPredicate allFieldsPredicate;
+    private PersonContainsKeywordsPredicate pricePredicate;
+
+    /**
+     * Generates the persons and the predicates to test them with.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        persons = SyntheticPersons.generate(PERSON_COUNT);
+        List<String> none = Collections.emptyList();
+        namePredicate = new PersonContainsKeywordsPredicate(Arrays.asList("yeoh", "kumar"),
+                none, none, none, none, none, none);
+        List<String> keywords = Arrays.asList("zzz", "qqq");
+        allFieldsPredicate = new PersonContainsKeywordsPredicate(keywords, keywords, keywords, keywords,
+                Arrays.asList("1"), keywords, keywords);
+        pricePredicate = new PersonContainsKeywordsPredicate(none, none, none, none,
+                Arrays.asList("400000-600000", "1,000,000"), none, none);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PERSON_COUNT)
+    public int nameKeywords() {
+        return countMatches(namePredicate);
+    }
+
+    /**
+     * Tests keywords that match no field, so every field of every person is checked.
+     */
+    @Benchmark
+    @OperationsPerInvocation(PERSON_COUNT)
+    public int allFieldsNoMatch() {
+        return countMatches(allFieldsPredicate);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PERSON_COUNT)
+    public int priceRanges() {
+        return countMatches(pricePredicate);
+    }
+
+    private int countMatches(PersonContainsKeywordsPredicate predicate) {
+        int matches = 0;
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,170 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.intention.Intention;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Price;
+import seedu.address.model.person.PropertyType;
+
+/**
+ * Benchmarks hashing and comparing persons, against hashing and comparing their fields one by one as
+ * {@code Person} did before it cached its hash code.
+ * Persons are compared with equal copies that share no objects with them, so that identity checks do not help.
+ * The time reported is per person.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersonEqualityBenchmark {
+
+    private static final int PERSON_COUNT = 10_000;
+
+    private List<Person> persons;
+    private List<Person> copies;
+    private List<Person> others;
+    private Set<Person> personSet;
+
+    /**
+     * Generates the persons, an equal copy of each of them, and a different person for each of them.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Person> generated = SyntheticPersons.generate(PERSON_COUNT * 2);
+        persons = generated.subList(0, PERSON_COUNT);
+        others = generated.subList(PERSON_COUNT, PERSON_COUNT * 2);
+        copies = new ArrayList<>(PERSON_COUNT);
+        for (Person person : persons) {
+            copies.add(copyOf(person));
+        }
+        personSet = new HashSet<>(persons);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PERSON_COUNT)
+    public int hashCodeCached() {
+        int sum = 0;
+        for (Person person : copies) {
+            sum += person.hashCode();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PERSON_COUNT)
+    public int hashCodeFieldByField() {
+        int sum = 0;
+        for (Person person : copies) {
+            sum += Objects.hash(person.getName().fullName, person.getPhone().value, person.getEmail().value,
+                    person.getAddress().value, person.getPropertyType().value, person.getPrice().value,
+                    person.getIntention().intentionName);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PERSON_COUNT)
+    public int equalsEqualPersons() {
+        return countEqual(persons, copies);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PERSON_COUNT)
+    public int equalsEqualPersonsFieldByField() {
+        return countEqualFieldByField(persons, copies);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PERSON_COUNT)
+    public int equalsDifferentPersons() {
+        return countEqual(persons, others);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PERSON_COUNT)
+    public int equalsDifferentPersonsFieldByField() {
+        return countEqualFieldByField(persons, others);
+    }
+
+    /**
+     * Looks up the equal copy of every person in a hash set of the persons.
+     */
+    @Benchmark
+    @OperationsPerInvocation(PERSON_COUNT)
+    public int hashSetContains() {
+        int found = 0;
+        for (Person copy : copies) {
+            if (personSet.contains(copy)) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    private static int countEqual(List<Person> first, List<Person> second) {
+        int equal = 0;
+        for (int i = 0; i < first.size(); i++) {
+            if (first.get(i).equals(second.get(i))) {
+                equal++;
+            }
+        }
+        return equal;
+    }
+
+    private static int countEqualFieldByField(List<Person> first, List<Person> second) {
+        int equal = 0;
+        for (int i = 0; i < first.size(); i++) {
+            Person person = first.get(i);
+            Person other = second.get(i);
+            if (person.getName().fullName.equals(other.getName().fullName)
+                    && person.getPhone().value.equals(other.getPhone().value)
+                    && person.getEmail().value.equals(other.getEmail().value)
+                    && person.getAddress().value.equals(other.getAddress().value)
+                    && person.getPropertyType().value.equals(other.getPropertyType().value)
+                    && person.getPrice().value.equals(other.getPrice().value)
+                    && person.getIntention().intentionName.equals(other.getIntention().intentionName)) {
+                equal++;
+            }
+        }
+        return equal;
+    }
+
+    /**
+     * Returns a person equal to {@code person} that shares none of its field objects or strings.
+     */
+    private static Person copyOf(Person person) {
+        return new Person(
+                new Name(new String(person.getName().fullName)),
+                new Phone(new String(person.getPhone().value)),
+                new Email(new String(person.getEmail().value)),
+                new Address(new String(person.getAddress().value)),
+                new PropertyType(new String(person.getPropertyType().value)),
+                new Price(new String(person.getPrice().value)),
+                new Intention(new String(person.getIntention().intentionName)));
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.intention.Intention;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Price;
+import seedu.address.model.person.PropertyType;
+
+/**
+ * Generates synthetic persons for benchmarks, in the style of {@code SampleDataUtil}.
+ * The same persons are generated on every run, so that results of different runs can be compared.
+ */
+public class SyntheticPersons {
+
+    private static final long SEED = 42;
+
+    private static final String[] FIRST_NAMES = {
+        "Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Wei Ling", "Siti", "Rajesh", "Mei"
+    };
+    private static final String[] LAST_NAMES = {
+        "Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan", "Lim", "Kumar", "Ng"
+    };
+    private static final String[] STREETS = {
+        "Geylang Street", "Lorong 3 Serangoon Gardens", "Ang Mo Kio Street", "Tampines Street", "Aljunied Street",
+        "Jurong West Ave", "Bedok North Road", "Clementi Ave", "Toa Payoh Lorong", "Woodlands Drive"
+    };
+    private static final String[] PROPERTY_TYPES = {
+        "hdb 3-room flat", "hdb 4-room flat", "hdb 5 room", "condo", "landed", "executive condo"
+    };
+    private static final String[] INTENTIONS = {"sell", "rent"};
+
+    /**
+     * Returns {@code count} distinct persons.
+     */
+    public static List<Person> generate(int count) {
+        Random random = new Random(SEED);
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(generate(i, random));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an address book of {@code count} distinct persons.
+     */
+    public static AddressBook generateAddressBook(int count) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(generate(count));
+        return addressBook;
+    }
+
+    /**
+     * Returns the {@code i}-th person. The phone number and email contain {@code i}, so persons are distinct.
+     */
+    private static Person generate(int i, Random random) {
+        String firstName = pick(FIRST_NAMES, random);
+        String lastName = pick(LAST_NAMES, random);
+        return new Person(
+                new Name(firstName + " " + lastName),
+                new Phone(String.format("8%07d", i)),
+                new Email(firstName.replace(" ", "").toLowerCase() + i + "@example.com"),
+                new Address("Blk " + (1 + random.nextInt(999)) + " " + pick(STREETS, random) + " "
+                        + (1 + random.nextInt(99)) + ", #" + (1 + random.nextInt(30)) + "-" + random.nextInt(200)),
+                PropertyType.of(pick(PROPERTY_TYPES, random)),
+                Price.of(String.valueOf(200000 + random.nextInt(2000) * 1000)),
+                Intention.of(pick(INTENTIONS, random)));
+    }
+
+    private static String pick(String[] values, Random random) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+
+/**
+ * Benchmarks adding persons to, and looking persons up in, a {@code UniquePersonList}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private List<Person> persons;
+    private UniquePersonList list;
+    private Person present;
+    private Person absent;
+
+    /**
+     * Generates {@code size} persons in the list, and one person that is not in it.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Person> generated = SyntheticPersons.generate(size + 1);
+        persons = generated.subList(0, size);
+        list = new UniquePersonList();
+        list.setPersons(persons);
+        present = generated.get(size / 2);
+        absent = generated.get(size);
+    }
+
+    /**
+     * Adds all persons one by one to an empty list. The time reported is for adding all {@code size} persons.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 5)
+    public UniquePersonList add() {
+        UniquePersonList emptyList = new UniquePersonList();
+        for (Person person : persons) {
+            emptyList.add(person);
+        }
+        return emptyList;
+    }
+
+    @Benchmark
+    public boolean containsPresent() {
+        return list.contains(present);
+    }
+
+    @Benchmark
+    public boolean containsAbsent() {
+        return list.contains(absent);
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.intention.Intention;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Price;
+import seedu.address.model.person.PropertyType;
+
+/**
+ * Benchmarks validating every field of every row of a data file, as loading the file does, with the precompiled
+ * patterns of the value classes against compiling each pattern again through {@code String#matches}.
+ * The time reported is for validating all {@code rows} rows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ValidationBenchmark {
+
+    @Param({"1000000"})
+    public int rows;
+
+    /** The field values of each row, in the order of {@link #isValidRow(String[])}. */
+    private String[][] fields;
+
+    /**
+     * Generates the field values of {@code rows} rows.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Person> persons = SyntheticPersons.generate(rows);
+        fields = new String[rows][];
+        for (int i = 0; i < rows; i++) {
+            Person person = persons.get(i);
+            fields[i] = new String[] {person.getName().fullName, person.getPhone().value, person.getEmail().value,
+                person.getAddress().value, person.getPropertyType().value, person.getPrice().value,
+                person.getIntention().intentionName};
+        }
+    }
+
+    @Benchmark
+    public int precompiledPatterns() {
+        int valid = 0;
+        for (String[] row : fields) {
+            if (isValidRow(row)) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public int stringMatches() {
+        int valid = 0;
+        for (String[] row : fields) {
+            if (row[0].matches(Name.VALIDATION_REGEX)
+                    && row[1].matches(Phone.VALIDATION_REGEX)
+                    && row[2].matches(Email.VALIDATION_REGEX)
+                    && row[3].matches(Address.VALIDATION_REGEX)
+                    && row[4].matches(PropertyType.VALIDATION_REGEX)
+                    && row[5].matches(Price.VALIDATION_REGEX)
+                    && row[6].toLowerCase().matches(Intention.VALIDATION_REGEX)) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    private static boolean isValidRow(String[] row) {
+        return Name.isValidName(row[0])
+                && Phone.isValidPhone(row[1])
+                && Email.isValidEmail(row[2])
+                && Address.isValidAddress(row[3])
+                && PropertyType.isValidPropertyType(row[4])
+                && Price.isValidPrice(row[5])
+                && Intention.isValidIntentionName(row[6]);
+    }
+}
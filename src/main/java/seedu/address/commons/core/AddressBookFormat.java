@@ -0,0 +1,11 @@
+package seedu.address.commons.core;
+
+/**
+ * The formats that the address book data file can be stored in.
+ */
+public enum AddressBookFormat {
+    /** Human-readable JSON, which can be edited by hand. */
+    JSON,
+    /** A compact binary snapshot, which is smaller and faster to load than JSON. */
+    BINARY
+}
@@ -0,0 +1,120 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Helper functions for reading and writing comma-separated values.
+ * Fields may be enclosed in double quotes, in which case they can contain commas, and a double quote inside such a
+ * field is written as two double quotes. A record must fit on one line, so a quoted field cannot contain a line
+ * break; {@link #endsInQuotedField(String, boolean)} finds the lines of a record that breaks this rule.
+ */
+public class CsvUtil {
+
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "A quoted field is not closed";
+    public static final String MESSAGE_CHARACTERS_AFTER_QUOTE = "Unexpected characters after a quoted field";
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    /**
+     * Splits {@code line} into its fields, removing the quotes around quoted fields.
+     *
+     * @throws IllegalValueException if a quoted field is not closed, or is followed by anything but a separator
+     */
+    public static List<String> parseLine(String line) throws IllegalValueException {
+        requireNonNull(line);
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int i = 0;
+        while (true) {
+            if (i < line.length() && line.charAt(i) == QUOTE) {
+                i = readQuotedField(line, i + 1, field);
+                if (i < line.length() && line.charAt(i) != SEPARATOR) {
+                    throw new IllegalValueException(MESSAGE_CHARACTERS_AFTER_QUOTE);
+                }
+            } else {
+                int end = line.indexOf(SEPARATOR, i);
+                end = end == -1 ? line.length() : end;
+                field.append(line, i, end);
+                i = end;
+            }
+
+            fields.add(field.toString());
+            field.setLength(0);
+            if (i >= line.length()) {
+                return fields;
+            }
+            i++; // skip the separator
+        }
+    }
+
+    /**
+     * Returns true if {@code line} ends inside a quoted field, which then continues on the next line.
+     * {@code startsInQuotedField} is whether the line continues a quoted field from the line before it.
+     */
+    public static boolean endsInQuotedField(String line, boolean startsInQuotedField) {
+        requireNonNull(line);
+
+        boolean isInQuotedField = startsInQuotedField;
+        boolean isAtFieldStart = !startsInQuotedField;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (isInQuotedField) {
+                if (c == QUOTE && i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                    i++; // an escaped quote
+                } else if (c == QUOTE) {
+                    isInQuotedField = false;
+                }
+            } else if (c == SEPARATOR) {
+                isAtFieldStart = true;
+            } else {
+                // like parseLine, only a quote that starts a field opens a quoted field
+                isInQuotedField = isAtFieldStart && c == QUOTE;
+                isAtFieldStart = false;
+            }
+        }
+        return isInQuotedField;
+    }
+
+    /**
+     * Returns {@code value} as a field of a line, quoted if it contains a separator or quote, or starts or ends with
+     * whitespace, so that {@link #parseLine(String)} reads it back unchanged.
+     */
+    public static String toField(String value) {
+        requireNonNull(value);
+        boolean needsQuotes = value.indexOf(SEPARATOR) != -1 || value.indexOf(QUOTE) != -1
+                || (!value.isEmpty() && (Character.isWhitespace(value.charAt(0))
+                        || Character.isWhitespace(value.charAt(value.length() - 1))));
+        if (!needsQuotes) {
+            return value;
+        }
+        return QUOTE + value.replace("\"", "\"\"") + QUOTE;
+    }
+
+    /**
+     * Appends the quoted field starting after the opening quote at {@code start} to {@code field}.
+     * Returns the index just past the closing quote.
+     */
+    private static int readQuotedField(String line, int start, StringBuilder field) throws IllegalValueException {
+        int i = start;
+        while (i < line.length()) {
+            char c = line.charAt(i);
+            if (c != QUOTE) {
+                field.append(c);
+                i++;
+            } else if (i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                field.append(QUOTE);
+                i += 2;
+            } else {
+                return i + 1;
+            }
+        }
+        throw new IllegalValueException(MESSAGE_UNTERMINATED_QUOTE);
+    }
+}
@@ -1,10 +1,18 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 
 /**
  * Writes and reads files
@@ -80,4 +88,64 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes given string to a temporary file beside {@code file}, then renames it over {@code file}.
+     * Readers of {@code file} see either its old or its new content, never a partially written file.
+     * Will create the file if it does not exist yet.
+     */
+    public static void writeToFileAtomically(Path file, String content) throws IOException {
+        writeToFileAtomically(file, writer -> writer.write(content));
+    }
+
+    /**
+     * Writes the content produced by {@code contentWriter} to a temporary file beside {@code file}, then renames it
+     * over {@code file}. The content is encoded as it is written, so it never has to be held in memory as a whole.
+     * Readers of {@code file} see either its old or its new content, never a partially written file.
+     * Will create the file if it does not exist yet.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        writeBytesToFileAtomically(file, out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, Charset.forName(CHARSET)));
+            contentWriter.writeTo(writer);
+            writer.flush();
+        });
+    }
+
+    /**
+     * Writes the bytes produced by {@code bytesWriter} to a temporary file beside {@code file}, then renames it over
+     * {@code file}. The stream given to {@code bytesWriter} is buffered, and is closed once it returns.
+     * Readers of {@code file} see either its old or its new content, never a partially written file.
+     * Will create the file if it does not exist yet.
+     */
+    public static void writeBytesToFileAtomically(Path file, BytesWriter bytesWriter) throws IOException {
+        Path tempFile = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+                bytesWriter.writeTo(out);
+            }
+            try {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Writes the content of a file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(Writer writer) throws IOException;
+    }
+
+    /**
+     * Writes the content of a binary file.
+     */
+    @FunctionalInterface
+    public interface BytesWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
 }
@@ -0,0 +1,54 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A pool of canonical instances of an immutable value class, keyed by the string that the value is created from.
+ * <p>
+ * Values created from the same string are shared instead of being created and validated again, so that fields with
+ * few distinct values take little memory and compare equal by identity. The pool stops growing once it holds
+ * {@code capacity} values, after which values that are not pooled yet are created as usual.
+ *
+ * @param <V> the type of the values, which must be immutable.
+ */
+public class InstancePool<V> {
+
+    private final Map<String, V> instances = new ConcurrentHashMap<>();
+    private final Function<String, V> factory;
+    private final int capacity;
+
+    /**
+     * Creates an {@code InstancePool} that creates values with {@code factory} and pools at most {@code capacity} of
+     * them.
+     */
+    public InstancePool(Function<String, V> factory, int capacity) {
+        requireNonNull(factory);
+        assert capacity > 0 : "Capacity should be positive.";
+        this.factory = factory;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the pooled value created from {@code key}, creating and pooling it if there is none yet.
+     * Exceptions thrown by the factory, such as for an invalid {@code key}, are passed on and nothing is pooled.
+     */
+    public V get(String key) {
+        requireNonNull(key);
+        V instance = instances.get(key);
+        if (instance != null) {
+            return instance;
+        }
+
+        instance = factory.apply(key);
+        if (instances.size() >= capacity) {
+            return instance;
+        }
+        V pooledInstance = instances.putIfAbsent(key, instance);
+        return pooledInstance == null ? instance : pooledInstance;
+    }
+
+}
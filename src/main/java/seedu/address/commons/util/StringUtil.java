@@ -38,6 +38,28 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns {@code s} with the case of each character folded, so that comparing folded strings with
+     * {@code compareTo} orders them the same way as comparing the original strings with {@code compareToIgnoreCase}.
+     * Returns {@code s} itself if no character changes.
+     * @throws NullPointerException if {@code s} is null.
+     */
+    public static String foldCase(String s) {
+        requireNonNull(s);
+        char[] folded = null;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            char foldedChar = Character.toLowerCase(Character.toUpperCase(c));
+            if (foldedChar != c) {
+                if (folded == null) {
+                    folded = s.toCharArray();
+                }
+                folded[i] = foldedChar;
+            }
+        }
+        return folded == null ? s : new String(folded);
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -23,6 +24,20 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Filters the displayed person list as {@code commandText} would if it is a valid {@code find} command, so that
+     * the matches can be seen while the command is being typed. For any other text, restores the filter from before
+     * the preview, which {@link #execute(String)} also does unless it executes a {@code find} command.
+     * Does nothing while an executed {@code find} command is still searching in the background.
+     */
+    void previewCommand(String commandText);
+
+    /**
+     * Sets the {@code handler} to receive the error message of a save that failed after
+     * {@link #execute(String)} had already returned. The handler may be called from a background thread.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
+
     /**
      * Returns the AddressBook.
      *
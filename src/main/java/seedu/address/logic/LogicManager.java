@@ -1,17 +1,28 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.FindCommandParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -27,40 +38,177 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    /** Version that never matches the model's, so that the address book is saved after the next command. */
+    private static final long UNSAVED_VERSION = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final Executor modelUpdater;
+    private volatile long savedAddressBookVersion;
+    private volatile Consumer<String> saveFailureHandler = message -> { };
+    private boolean isPreviewing;
+    /** The filter of the displayed list before the current preview, if {@code isPreviewing}. */
+    private Predicate<Person> predicateBeforePreview;
+    /** Feedback of the last executed find that ran in the background, or null if there has been none. */
+    private CompletableFuture<String> committedFindFeedback;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, Platform::runLater);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, where commands that leave
+     * work running in the background change the model on {@code modelUpdater}.
+     */
+    LogicManager(Model model, Storage storage, Executor modelUpdater) {
         this.model = model;
         this.storage = storage;
+        this.modelUpdater = modelUpdater;
         addressBookParser = new AddressBookParser();
+        // The loaded book may be sample or empty data that is not on disk yet, so the first command writes it.
+        savedAddressBookVersion = UNSAVED_VERSION;
+        storage.setSaveFailureHandler(this::handleSaveFailure);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        Command command;
+        try {
+            command = addressBookParser.parseCommand(commandText);
+        } catch (ParseException pe) {
+            endPreview(true);
+            throw pe;
+        }
+        // a find replaces the previewed filter with its own, but any other command must see the filter that the
+        // user last committed, so that indexes refer to the persons the user chose them from
+        endPreview(!(command instanceof FindCommand));
+
+        CommandResult commandResult = command.execute(model);
+        if (command instanceof FindCommand) {
+            committedFindFeedback = commandResult.getDeferredFeedback()
+                    .map(CompletionStage::toCompletableFuture)
+                    .orElse(null);
+        }
+        // work left running in the background, such as an import, may change the model after the command returns
+        commandResult.getDeferredFeedback().ifPresent(feedback ->
+                feedback.whenCompleteAsync((unused1, unused2) -> saveDeferredChanges(), modelUpdater));
 
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            saveChanges();
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
         }
 
         return commandResult;
     }
 
+    /**
+     * Saves the address book if it has changed since it was last saved.
+     */
+    private void saveChanges() throws IOException {
+        long version = model.getAddressBookVersion();
+        if (version == savedAddressBookVersion) {
+            return;
+        }
+
+        try {
+            savedAddressBookVersion = version;
+            storage.saveAddressBook(model.getAddressBook());
+        } catch (IOException ioe) {
+            savedAddressBookVersion = UNSAVED_VERSION;
+            throw ioe;
+        }
+    }
+
+    private void saveDeferredChanges() {
+        try {
+            saveChanges();
+        } catch (IOException ioe) {
+            handleSaveFailure(ioe);
+        }
+    }
+
+    @Override
+    public void previewCommand(String commandText) {
+        if (committedFindFeedback != null && !committedFindFeedback.isDone()) {
+            // a preview would cancel the executed find, whose result the user is still waiting for
+            return;
+        }
+
+        FindCommand command = parseFindCommand(commandText.trim());
+        if (command == null) {
+            endPreview(true);
+            return;
+        }
+
+        if (!isPreviewing) {
+            Predicate<? super Person> predicate = model.getFilteredPersonListPredicate();
+            predicateBeforePreview = predicate == null ? PREDICATE_SHOW_ALL_PERSONS : predicate::test;
+            isPreviewing = true;
+        }
+        // find does not modify the address book, so there is nothing to save
+        command.execute(model);
+    }
+
+    /**
+     * Returns the find command that {@code trimmedText} is, or null if it is not a valid find command.
+     */
+    private static FindCommand parseFindCommand(String trimmedText) {
+        if (!trimmedText.startsWith(FindCommand.COMMAND_WORD + " ")) {
+            return null;
+        }
+
+        try {
+            return new FindCommandParser().parse(trimmedText.substring(FindCommand.COMMAND_WORD.length()));
+        } catch (ParseException pe) {
+            return null;
+        }
+    }
+
+    /**
+     * Ends the current preview, if any, restoring the filter of the displayed list from before it if
+     * {@code shouldRestoreFilter} is true.
+     */
+    private void endPreview(boolean shouldRestoreFilter) {
+        if (!isPreviewing) {
+            return;
+        }
+        if (shouldRestoreFilter) {
+            model.updateFilteredPersonList(predicateBeforePreview);
+        }
+        isPreviewing = false;
+        predicateBeforePreview = null;
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        requireNonNull(handler);
+        saveFailureHandler = handler;
+    }
+
+    /**
+     * Makes the next command save the address book again, and reports {@code ioe} to the save failure handler.
+     */
+    private void handleSaveFailure(IOException ioe) {
+        savedAddressBookVersion = UNSAVED_VERSION;
+        saveFailureHandler.accept(getSaveErrorMessage(ioe));
+    }
+
+    private static String getSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -3,6 +3,8 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 
 import seedu.address.commons.util.ToStringBuilder;
 
@@ -19,6 +21,9 @@ public class CommandResult {
     /** The application should exit. */
     private final boolean exit;
 
+    /** Feedback to show the user when work the command left running in the background is done, if any. */
+    private final CompletionStage<String> deferredFeedback;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
@@ -26,6 +31,18 @@ public class CommandResult {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.exit = exit;
+        this.deferredFeedback = null;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser}, which is to be replaced by
+     * {@code deferredFeedback} once that completes, and other fields set to their default value.
+     */
+    public CommandResult(String feedbackToUser, CompletionStage<String> deferredFeedback) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showHelp = false;
+        this.exit = false;
+        this.deferredFeedback = requireNonNull(deferredFeedback);
     }
 
     /**
@@ -48,6 +65,10 @@ public class CommandResult {
         return exit;
     }
 
+    public Optional<CompletionStage<String>> getDeferredFeedback() {
+        return Optional.ofNullable(deferredFeedback);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -62,12 +83,13 @@ public class CommandResult {
         CommandResult otherCommandResult = (CommandResult) other;
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && showHelp == otherCommandResult.showHelp
-                && exit == otherCommandResult.exit;
+                && exit == otherCommandResult.exit
+                && Objects.equals(deferredFeedback, otherCommandResult.deferredFeedback);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit);
+        return Objects.hash(feedbackToUser, showHelp, exit, deferredFeedback);
     }
 
     @Override
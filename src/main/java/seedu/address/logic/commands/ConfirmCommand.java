@@ -45,9 +45,7 @@ public class ConfirmCommand extends Command {
         List<Person> toDelete = ConfirmationManager.getPersonsToDelete();
         List<Name> notFound = ConfirmationManager.getNotFoundNames();
 
-        for (Person p : toDelete) {
-            model.deletePerson(p);
-        }
+        model.deletePersons(toDelete);
 
         ConfirmationManager.clearPending();
 
@@ -3,7 +3,9 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -103,10 +105,7 @@ public class DeleteCommand extends Command {
     }
 
     private CommandResult executeDeleteByName(Model model) throws CommandException {
-        String targetLower = targetName.fullName.toLowerCase();
-        List<Person> personsMatchingName = model.getAddressBook().getPersonList().stream()
-                .filter(person -> person.getName().fullName.toLowerCase().equals(targetLower))
-                .collect(Collectors.toList());
+        List<Person> personsMatchingName = model.getPersonsWithName(targetName);
 
         if (personsMatchingName.isEmpty()) {
             throw new CommandException(String.format(Messages.MESSAGE_PERSON_NOT_FOUND, targetName.fullName));
@@ -132,13 +131,14 @@ public class DeleteCommand extends Command {
             if (confirmationResult != null) {
                 return confirmationResult;
             }
-            deletePersons(model, personsMatchingName);
+            model.deletePersons(personsMatchingName);
             return createSuccessMessage(personsMatchingName, new ArrayList<>());
         }
     }
 
     private CommandResult executeDeleteMultipleNames(Model model) throws CommandException {
-        List<Person> personsToDelete = new ArrayList<>();
+        // a set keeps the batch free of persons matched by more than one of the names, in the order they were matched
+        Set<Person> matchedPersons = new LinkedHashSet<>();
         List<Name> notFoundNames = new ArrayList<>();
         // preserve duplicates in targetNames so repeated names can map to multiple matching persons
         List<Name> distinctTargetNames = new ArrayList<>(targetNames);
@@ -146,20 +146,12 @@ public class DeleteCommand extends Command {
         StringBuilder duplicateNotes = new StringBuilder();
 
         for (Name name : distinctTargetNames) {
-            String targetLowerName = name.fullName.toLowerCase();
-            List<Person> matchesForName = model.getAddressBook().getPersonList().stream()
-                    .filter(p -> p.getName().fullName.toLowerCase().equals(targetLowerName))
-                    .collect(Collectors.toList());
+            List<Person> matchesForName = model.getPersonsWithName(name);
 
             if (matchesForName.isEmpty()) {
                 notFoundNames.add(name);
             } else {
-                // add all matches for this name (avoid duplicates)
-                for (Person p : matchesForName) {
-                    if (!personsToDelete.contains(p)) {
-                        personsToDelete.add(p);
-                    }
-                }
+                matchedPersons.addAll(matchesForName);
                 if (matchesForName.size() > 1) {
                     duplicateNotes.append("\nNote: Multiple entries found for '")
                             .append(name.fullName)
@@ -168,11 +160,13 @@ public class DeleteCommand extends Command {
             }
         }
 
-        if (personsToDelete.isEmpty()) {
+        if (matchedPersons.isEmpty()) {
             throw new CommandException(String.format(MESSAGE_PERSONS_NOT_FOUND,
                     notFoundNames.stream().map(n -> n.fullName).collect(Collectors.joining(", "))));
         }
 
+        List<Person> personsToDelete = new ArrayList<>(matchedPersons);
+
         // build an ordered list from the input names for display in confirmation
         String personsNamesFromInput = IntStream.range(0, distinctTargetNames.size())
                 .mapToObj(i -> (i + 1) + ". " + distinctTargetNames.get(i).fullName)
@@ -188,7 +182,7 @@ public class DeleteCommand extends Command {
             return confirmationResult;
         }
 
-        deletePersons(model, personsToDelete);
+        model.deletePersons(personsToDelete);
         return createSuccessMessage(personsToDelete, notFoundNames);
     }
 
@@ -230,12 +224,6 @@ public class DeleteCommand extends Command {
         return null;
     }
 
-    private void deletePersons(Model model, List<Person> personsToDelete) {
-        for (Person person : personsToDelete) {
-            model.deletePerson(person);
-        }
-    }
-
     private CommandResult createSuccessMessage(List<Person> personsToDelete, List<Name> notFoundNames) {
         String successMessage;
         if (personsToDelete.size() == 1) {
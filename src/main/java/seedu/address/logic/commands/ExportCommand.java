@@ -0,0 +1,104 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.storage.PersonFileWriter;
+
+/**
+ * Writes the displayed persons, or all persons, to a CSV or JSON Lines file.
+ * The file is written on a background thread, so PropertyPal can be used while a large export is running.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Writes the persons in the displayed list, "
+            + "or all persons if all/ is given, to a CSV or JSON Lines file.\n"
+            + "Parameters: FILE_PATH (ending in .csv or .jsonl) [all/]\n"
+            + "Example: " + COMMAND_WORD + " exports/listings.csv all/";
+
+    public static final String MESSAGE_STARTED = "Exporting %1$d persons to %2$s...";
+    public static final String MESSAGE_SUCCESS = "Exported %1$d persons to %2$s";
+    public static final String MESSAGE_FAILURE = "Could not export to %1$s: %2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(ExportCommand.class);
+
+    private static final Executor exporter = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "person-exporter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Path filePath;
+    private final boolean isAllPersons;
+
+    /**
+     * Creates an ExportCommand to write the displayed persons, or all persons if {@code isAllPersons}, to the file at
+     * {@code filePath}.
+     */
+    public ExportCommand(Path filePath, boolean isAllPersons) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.isAllPersons = isAllPersons;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        // the model only exposes live lists, which must not be read off the application thread, so the references
+        // are copied here; persons are immutable, so this O(n) copy is enough to export the list as it is now
+        List<Person> persons = new ArrayList<>(isAllPersons
+                ? model.getAddressBook().getPersonList()
+                : model.getFilteredPersonList());
+        CompletableFuture<String> feedback = CompletableFuture.supplyAsync(() -> export(persons), exporter);
+        return new CommandResult(String.format(MESSAGE_STARTED, persons.size(), filePath), feedback);
+    }
+
+    private String export(List<Person> persons) {
+        try {
+            PersonFileWriter.writePersons(persons, filePath);
+            return String.format(MESSAGE_SUCCESS, persons.size(), filePath);
+        } catch (IOException ioe) {
+            logger.warning("Failed to export persons to " + filePath + ": " + ioe);
+            return String.format(MESSAGE_FAILURE, filePath, ioe.getMessage());
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return filePath.equals(otherExportCommand.filePath)
+                && isAllPersons == otherExportCommand.isAllPersons;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("isAllPersons", isAllPersons)
+                .toString();
+    }
+}
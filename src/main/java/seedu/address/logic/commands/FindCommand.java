@@ -2,6 +2,8 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.concurrent.CompletableFuture;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
@@ -10,6 +12,7 @@ import seedu.address.model.person.PersonContainsKeywordsPredicate;
 /**
  * Finds and lists all persons in the address book whose fields contain any of the given keywords.
  * Keyword matching is case-insensitive and substring-based.
+ * Large address books are searched in the background, and the matches are listed as they are found.
  */
 public class FindCommand extends Command {
 
@@ -22,6 +25,8 @@ public class FindCommand extends Command {
             + "Example:\n"
             + "  find n/Alice p/9123\n";
 
+    public static final String MESSAGE_SEARCHING = "Searching %1$d persons...";
+
     private final PersonContainsKeywordsPredicate predicate;
 
     public FindCommand(PersonContainsKeywordsPredicate predicate) {
@@ -31,9 +36,13 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+        CompletableFuture<Integer> matchCount = model.findPersons(predicate);
+        if (matchCount.isDone()) {
+            return new CommandResult(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, matchCount.join()));
+        }
+
+        return new CommandResult(String.format(MESSAGE_SEARCHING, model.getAddressBook().getPersonList().size()),
+                matchCount.thenApply(count -> String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, count)));
     }
 
     @Override
@@ -0,0 +1,162 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.storage.PersonFileReader;
+
+/**
+ * Adds all persons in a CSV or JSON Lines file to PropertyPal.
+ * The file is read on a background thread, so PropertyPal can be used while a large import is running, and the persons
+ * read from it are then added to the model in one batch on the UI thread.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds the persons in a CSV or JSON Lines file to "
+            + "PropertyPal. The first line of a CSV file names its columns.\n"
+            + "Parameters: FILE_PATH (ending in .csv or .jsonl)\n"
+            + "Example: " + COMMAND_WORD + " data/listings.csv";
+
+    public static final String MESSAGE_STARTED = "Importing persons from %1$s...";
+    public static final String MESSAGE_SUCCESS = "Imported %1$d persons from %2$s";
+    public static final String MESSAGE_DUPLICATES_SKIPPED = "\nSkipped %1$d persons that already exist in PropertyPal";
+    public static final String MESSAGE_INVALID_LINES_SKIPPED = "\nSkipped %1$d invalid lines:\n%2$s";
+    public static final String MESSAGE_MORE_INVALID_LINES = "\n...and %1$d more";
+    public static final String MESSAGE_READ_FAILURE = "Could not import from %1$s: %2$s";
+
+    static final int MAX_REPORTED_ERRORS = 10;
+
+    private static final Logger logger = LogsCenter.getLogger(ImportCommand.class);
+
+    private static final Executor importer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "person-importer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Path filePath;
+    private final Executor modelUpdater;
+
+    /**
+     * Creates an ImportCommand to add the persons in the file at {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        this(filePath, Platform::runLater);
+    }
+
+    /**
+     * Creates an ImportCommand to add the persons in the file at {@code filePath}, changing the model only on
+     * {@code modelUpdater}.
+     */
+    ImportCommand(Path filePath, Executor modelUpdater) {
+        requireNonNull(filePath);
+        requireNonNull(modelUpdater);
+        this.filePath = filePath;
+        this.modelUpdater = modelUpdater;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        CompletableFuture<String> feedback = CompletableFuture.supplyAsync(this::readPersons, importer)
+                .handleAsync((result, error) -> error == null ? addPersons(model, result) : getReadFailure(error),
+                        modelUpdater);
+        return new CommandResult(String.format(MESSAGE_STARTED, filePath), feedback);
+    }
+
+    private PersonFileReader.Result readPersons() {
+        try {
+            return PersonFileReader.readPersons(filePath, MAX_REPORTED_ERRORS);
+        } catch (DataLoadingException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private String getReadFailure(Throwable error) {
+        Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+        if (!(cause instanceof DataLoadingException)) {
+            throw new CompletionException(cause);
+        }
+        logger.warning("Failed to import persons from " + filePath + ": " + cause.getCause());
+        return String.format(MESSAGE_READ_FAILURE, filePath, cause.getCause().getMessage());
+    }
+
+    /**
+     * Adds the persons in {@code result} that are not in {@code model} yet, and returns the feedback of the import.
+     * Duplicates are only looked for now, as the model may have changed while the file was read.
+     */
+    private String addPersons(Model model, PersonFileReader.Result result) {
+        List<Person> personsToAdd = new ArrayList<>();
+        Set<Person> seen = new HashSet<>();
+        int duplicateCount = 0;
+        for (Person person : result.getPersons()) {
+            if (model.hasPerson(person) || !seen.add(person)) {
+                duplicateCount++;
+            } else {
+                personsToAdd.add(person);
+            }
+        }
+        model.addPersons(personsToAdd);
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, personsToAdd.size(), filePath));
+        if (duplicateCount > 0) {
+            message.append(String.format(MESSAGE_DUPLICATES_SKIPPED, duplicateCount));
+        }
+        appendErrors(message, result);
+        return message.toString();
+    }
+
+    private static void appendErrors(StringBuilder message, PersonFileReader.Result result) {
+        int errorCount = result.getErrorCount();
+        if (errorCount == 0) {
+            return;
+        }
+
+        List<String> reportedErrors = result.getErrors();
+        message.append(String.format(MESSAGE_INVALID_LINES_SKIPPED, errorCount, String.join("\n", reportedErrors)));
+        if (errorCount > reportedErrors.size()) {
+            message.append(String.format(MESSAGE_MORE_INVALID_LINES, errorCount - reportedErrors.size()));
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
@@ -29,9 +29,6 @@ public class FindCommandParser implements Parser<FindCommand> {
     public FindCommand parse(String args) throws ParseException {
         assert args != null : "Input arguments should not be null.";
 
-        args = args.replaceAll(
-                "(pr/\\s*)(\\d+(?:,\\d+)*(?:\\.\\d+)?)\\s*-\\s*(\\d+(?:,\\d+)*(?:\\.\\d+)?)", "pr/$2-$3");
-
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args,
                 PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
                 PREFIX_PRICE, PREFIX_PROPERTY_TYPE, PREFIX_INTENTION);
@@ -41,6 +38,7 @@ public class FindCommandParser implements Parser<FindCommand> {
         List<String> rawEmails = argMultimap.getAllValues(PREFIX_EMAIL);
         List<String> rawAddresses = argMultimap.getAllValues(PREFIX_ADDRESS);
         List<String> rawPrices = argMultimap.getAllValues(PREFIX_PRICE);
+        rawPrices.replaceAll(FindCommandParser::joinLeadingPriceRange);
         List<String> rawPropertyTypes = argMultimap.getAllValues(PREFIX_PROPERTY_TYPE);
         List<String> rawIntentions = argMultimap.getAllValues(PREFIX_INTENTION);
 
@@ -88,6 +86,75 @@ public class FindCommandParser implements Parser<FindCommand> {
         return new ArrayList<>(out);
     }
 
+    /**
+     * Removes the whitespace around the '-' of a price range at the start of {@code value}, so that a range typed as
+     * {@code "1,000 - 2,000"} is kept as the single keyword {@code "1,000-2,000"}.
+     */
+    static String joinLeadingPriceRange(String value) {
+        int lowerEnd = skipPrice(value, 0);
+        int dashPos = skipWhitespace(value, lowerEnd);
+        if (lowerEnd == 0 || dashPos == value.length() || value.charAt(dashPos) != '-') {
+            return value;
+        }
+
+        int upperStart = skipWhitespace(value, dashPos + 1);
+        if (skipPrice(value, upperStart) == upperStart || (lowerEnd == dashPos && upperStart == dashPos + 1)) {
+            return value;
+        }
+        return value.substring(0, lowerEnd) + '-' + value.substring(upperStart);
+    }
+
+    /**
+     * Returns the position after the price, such as {@code "1,000.50"}, at {@code start} of {@code value}, or
+     * {@code start} if there is none.
+     */
+    private static int skipPrice(String value, int start) {
+        int position = skipDigits(value, start);
+        if (position == start) {
+            return start;
+        }
+        while (position < value.length() - 1 && value.charAt(position) == ','
+                && isDigit(value.charAt(position + 1))) {
+            position = skipDigits(value, position + 1);
+        }
+        if (position < value.length() - 1 && value.charAt(position) == '.'
+                && isDigit(value.charAt(position + 1))) {
+            position = skipDigits(value, position + 1);
+        }
+        return position;
+    }
+
+    private static int skipDigits(String value, int start) {
+        int position = start;
+        while (position < value.length() && isDigit(value.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    private static int skipWhitespace(String value, int start) {
+        int position = start;
+        while (position < value.length() && isWhitespace(value.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII digit, like {@code \d} in a regex, so that other Unicode digits are not
+     * taken as part of a price.
+     */
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII whitespace character, like {@code \s} in a regex.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
     /**
      * Validates a price keyword and returns an error message if invalid, or {@code null} if valid.
      * Handles both single numeric prices (e.g. "2000") and ranges (e.g. "2000-3000").
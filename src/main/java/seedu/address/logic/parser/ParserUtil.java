@@ -2,6 +2,10 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -12,6 +16,7 @@ import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Price;
 import seedu.address.model.person.PropertyType;
+import seedu.address.storage.PersonFileFormat;
 
 /**
  * Contains utility methods used for parsing strings in the various *Parser classes.
@@ -90,7 +95,7 @@ public class ParserUtil {
         if (!PropertyType.isValidPropertyType(trimmedPropertyType)) {
             throw new ParseException(PropertyType.MESSAGE_CONSTRAINTS);
         }
-        return new PropertyType(trimmedPropertyType);
+        return PropertyType.of(trimmedPropertyType);
     }
 
     /**
@@ -105,7 +110,7 @@ public class ParserUtil {
         if (!Price.isValidPrice(trimmedPrice)) {
             throw new ParseException(Price.MESSAGE_CONSTRAINTS);
         }
-        return new Price(trimmedPrice);
+        return Price.of(trimmedPrice);
     }
 
     /**
@@ -133,6 +138,28 @@ public class ParserUtil {
         if (!Intention.isValidIntentionName(trimmed)) {
             throw new ParseException(Intention.MESSAGE_CONSTRAINTS);
         }
-        return new Intention(trimmed);
+        return Intention.of(trimmed);
+    }
+
+    /**
+     * Parses {@code String filePath} into the {@code Path} of a file in one of the {@code PersonFileFormat}s.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code filePath} is not a valid path, or does not name a CSV or JSON Lines
+     *     file.
+     */
+    public static Path parsePersonFilePath(String filePath) throws ParseException {
+        requireNonNull(filePath);
+        String trimmedFilePath = filePath.trim();
+        Path path;
+        try {
+            path = Paths.get(trimmedFilePath);
+        } catch (InvalidPathException ipe) {
+            throw new ParseException(ipe.getMessage(), ipe);
+        }
+        if (trimmedFilePath.isEmpty() || PersonFileFormat.fromPath(path).isEmpty()) {
+            throw new ParseException(PersonFileFormat.MESSAGE_CONSTRAINTS);
+        }
+        return path;
     }
 }
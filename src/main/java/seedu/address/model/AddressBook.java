@@ -2,11 +2,17 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -16,6 +22,8 @@ import seedu.address.model.person.UniquePersonList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private long version;
+    private PersonChangeLog changeLog = new PersonChangeLog();
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -46,6 +54,33 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        version++;
+        // the persons are replaced wholesale, so there is no short list of changes that leads here
+        changeLog = new PersonChangeLog();
+    }
+
+    /**
+     * Replaces each person in the key set of {@code replacements} with the person it maps to, as a single change.
+     * Every key must exist in the address book.
+     * The address book must not contain duplicate persons after the replacements.
+     */
+    public void setPersons(Map<Person, Person> replacements) {
+        boolean isEmptyBatch = replacements.isEmpty();
+        List<PersonChange> changes = new ArrayList<>(replacements.size());
+        boolean isReplayable = true;
+        for (Map.Entry<Person, Person> replacement : replacements.entrySet()) {
+            Person target = replacement.getKey();
+            Person editedPerson = replacement.getValue();
+            changes.add(PersonChange.edited(target, editedPerson));
+            isReplayable &= target.equals(editedPerson) || !replacements.containsKey(editedPerson);
+        }
+        persons.setPersons(replacements);
+        if (!isEmptyBatch) {
+            version++;
+            // the replacements are made at once, so an edited person that is also a target, as when two persons are
+            // swapped, would be lost if they were made one after another
+            changeLog = isReplayable ? changeLog.append(changes) : new PersonChangeLog();
+        }
     }
 
     /**
@@ -67,6 +102,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.hasName(person);
     }
 
+    /**
+     * Returns the persons whose full name equals {@code name}, ignoring case.
+     */
+    public List<Person> getPersonsWithName(Name name) {
+        requireNonNull(name);
+        return persons.getPersonsWithName(name);
+    }
+
     /**
      * Returns true if a person with the same address as {@code person} exists in the address book.
      */
@@ -89,6 +132,23 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        version++;
+        changeLog = changeLog.append(List.of(PersonChange.added(p)));
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the address book as a single change.
+     * None of the persons may already exist in the address book or appear more than once in {@code toAdd}.
+     */
+    public void addPersons(Collection<Person> toAdd) {
+        boolean isEmptyBatch = toAdd.isEmpty();
+        List<PersonChange> changes = new ArrayList<>(toAdd.size());
+        toAdd.forEach(person -> changes.add(PersonChange.added(person)));
+        persons.addAll(toAdd);
+        if (!isEmptyBatch) {
+            version++;
+            changeLog = changeLog.append(changes);
+        }
     }
 
     /**
@@ -100,6 +160,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        version++;
+        changeLog = changeLog.append(List.of(PersonChange.edited(target, editedPerson)));
     }
 
     /**
@@ -108,10 +170,44 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        version++;
+        changeLog = changeLog.append(List.of(PersonChange.removed(key)));
+    }
+
+    /**
+     * Removes all of {@code keys} from this {@code AddressBook} as a single change.
+     * Every key must exist in the address book.
+     */
+    public void removePersons(Collection<Person> keys) {
+        boolean isEmptyBatch = keys.isEmpty();
+        List<PersonChange> changes = new ArrayList<>(keys.size());
+        keys.forEach(person -> changes.add(PersonChange.removed(person)));
+        persons.removeAll(keys);
+        if (!isEmptyBatch) {
+            version++;
+            changeLog = changeLog.append(changes);
+        }
     }
 
     //// util methods
 
+    /**
+     * Returns a counter that is incremented every time the persons in this address book are modified.
+     * Two calls returning the same value mean no modification happened in between.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the log of the changes made to the persons in this address book since they were last replaced
+     * wholesale, such as when the address book was created.
+     */
+    @Override
+    public Optional<PersonChangeLog> getChangeLog() {
+        return Optional.of(changeLog);
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -119,6 +215,13 @@ public class AddressBook implements ReadOnlyAddressBook {
                 .toString();
     }
 
+    /**
+     * Returns the trigram index over the persons in this address book.
+     */
+    public PersonSearchIndex getSearchIndex() {
+        return persons.getSearchIndex();
+    }
+
     @Override
     public ObservableList<Person> getPersonList() {
         return persons.asUnmodifiableObservableList();
@@ -1,11 +1,17 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
 
 /**
  * The API of the Model component.
@@ -52,6 +58,12 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the mutation version of the address book.
+     * The version changes whenever a person is added, edited or deleted, or the address book is replaced.
+     */
+    long getAddressBookVersion();
+
     /**
      * Returns true if a person with the same address as {@code person} exists in the address book.
      */
@@ -62,6 +74,11 @@ public interface Model {
      */
     boolean hasName(Person person);
 
+    /**
+     * Returns the persons in the address book whose full name equals {@code name}, ignoring case.
+     */
+    List<Person> getPersonsWithName(Name name);
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -79,6 +96,18 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Deletes the given persons, notifying listeners of the person list once.
+     * The persons must exist in the address book.
+     */
+    void deletePersons(Collection<Person> targets);
+
+    /**
+     * Adds the given persons, notifying listeners of the person list once.
+     * None of {@code persons} may already exist in the address book or appear more than once.
+     */
+    void addPersons(Collection<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -86,6 +115,14 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Replaces each person in the key set of {@code replacements} with the person it maps to, notifying listeners of
+     * the person list once.
+     * Every key must exist in the address book.
+     * The address book must not contain duplicate persons after the replacements.
+     */
+    void setPersons(Map<Person, Person> replacements);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -95,6 +132,22 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Returns the predicate that the filtered person list was last updated with, or null if it has never been updated.
+     */
+    Predicate<? super Person> getFilteredPersonListPredicate();
+
+    /**
+     * Updates the filter of the filtered person list to the persons that satisfy {@code predicate}, which are looked
+     * up in the background for large address books, cancelling the previous search if it is still running.
+     * Must be called on the JavaFX application thread.
+     *
+     * @return the number of matching persons, which is already available unless the search runs in the background.
+     *     The future is cancelled if the search is cancelled, and fails if the search fails, in which case the filter
+     *     from before the search is restored.
+     */
+    CompletableFuture<Integer> findPersons(PersonContainsKeywordsPredicate predicate);
+
     /**
      * Sorts the filtered person list by name in alphabetical order.
      */
@@ -4,6 +4,10 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -12,7 +16,9 @@ import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -24,6 +30,7 @@ public class ModelManager implements Model {
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
     private final SortedList<Person> sortedPersons;
+    private final QueryExecutor queryExecutor;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -37,6 +44,7 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
         sortedPersons = new SortedList<>(filteredPersons);
+        queryExecutor = new QueryExecutor(this, this.addressBook.getSearchIndex());
     }
 
     public ModelManager() {
@@ -90,6 +98,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
     @Override
     public boolean hasAddress(Person person) {
         requireNonNull(person);
@@ -102,6 +115,12 @@ public class ModelManager implements Model {
         return addressBook.hasName(person);
     }
 
+    @Override
+    public List<Person> getPersonsWithName(Name name) {
+        requireNonNull(name);
+        return addressBook.getPersonsWithName(name);
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -116,7 +135,6 @@ public class ModelManager implements Model {
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
     @Override
@@ -126,11 +144,31 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public void deletePersons(Collection<Person> targets) {
+        requireNonNull(targets);
+        addressBook.removePersons(targets);
+    }
+
+    @Override
+    public void addPersons(Collection<Person> persons) {
+        requireNonNull(persons);
+        addressBook.addPersons(persons);
+    }
+
+    @Override
+    public void setPersons(Map<Person, Person> replacements) {
+        requireNonNull(replacements);
+        addressBook.setPersons(replacements);
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
      * Returns an unmodifiable view of the list of {@code Person} backed by the internal list of
      * {@code versionedAddressBook}
+     * The view keeps its predicate and order as persons are added, edited and removed, and only tests and places the
+     * persons that changed.
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
@@ -143,6 +181,17 @@ public class ModelManager implements Model {
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public Predicate<? super Person> getFilteredPersonListPredicate() {
+        return filteredPersons.getPredicate();
+    }
+
+    @Override
+    public CompletableFuture<Integer> findPersons(PersonContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return queryExecutor.submit(predicate);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -162,21 +211,9 @@ public class ModelManager implements Model {
 
     @Override
     public void sortFilteredPersonListByName() {
-        sortedPersons.setComparator((p1, p2) -> {
-            int cmp = p1.getName().fullName.compareToIgnoreCase(p2.getName().fullName);
-            if (cmp != 0) {
-                return cmp;
-            }
-            cmp = p1.getPhone().value.compareTo(p2.getPhone().value);
-            if (cmp != 0) {
-                return cmp;
-            }
-            cmp = p1.getAddress().value.compareToIgnoreCase(p2.getAddress().value);
-            if (cmp != 0) {
-                return cmp;
-            }
-            return p1.getEmail().value.compareToIgnoreCase(p2.getEmail().value);
-        });
+        // Setting the same comparator again does not re-sort, and once it is set, the sorted list keeps its order as
+        // persons are added, edited and removed by inserting each change at its place with a binary search.
+        sortedPersons.setComparator(Person.NAME_ORDER);
     }
 
 }
@@ -0,0 +1,93 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * A single change to the persons of an address book: a person that was added, removed, or replaced by an edited
+ * person.
+ * Guarantees: immutable.
+ */
+public class PersonChange {
+
+    private final Person removedPerson;
+    private final Person addedPerson;
+
+    private PersonChange(Person removedPerson, Person addedPerson) {
+        this.removedPerson = removedPerson;
+        this.addedPerson = addedPerson;
+    }
+
+    /**
+     * Returns the change that adds {@code person}.
+     */
+    public static PersonChange added(Person person) {
+        requireNonNull(person);
+        return new PersonChange(null, person);
+    }
+
+    /**
+     * Returns the change that removes {@code person}.
+     */
+    public static PersonChange removed(Person person) {
+        requireNonNull(person);
+        return new PersonChange(person, null);
+    }
+
+    /**
+     * Returns the change that replaces {@code target} with {@code editedPerson}.
+     */
+    public static PersonChange edited(Person target, Person editedPerson) {
+        requireNonNull(target);
+        requireNonNull(editedPerson);
+        return new PersonChange(target, editedPerson);
+    }
+
+    /**
+     * Returns the person that was removed, or replaced by an edited person, if any.
+     */
+    public Optional<Person> getRemovedPerson() {
+        return Optional.ofNullable(removedPerson);
+    }
+
+    /**
+     * Returns the person that was added, or that replaced the removed person, if any.
+     */
+    public Optional<Person> getAddedPerson() {
+        return Optional.ofNullable(addedPerson);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonChange)) {
+            return false;
+        }
+
+        PersonChange otherChange = (PersonChange) other;
+        return Objects.equals(removedPerson, otherChange.removedPerson)
+                && Objects.equals(addedPerson, otherChange.addedPerson);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(removedPerson, addedPerson);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("removedPerson", removedPerson)
+                .add("addedPerson", addedPerson)
+                .toString();
+    }
+}
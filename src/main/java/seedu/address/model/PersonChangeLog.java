@@ -0,0 +1,77 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The changes made to the persons of an address book, up to some state of it.
+ * <p>
+ * Each log holds the changes of one modification, and links to the log of the state before that modification, so
+ * a reader that kept the log of an earlier state can find the changes made since then with
+ * {@link #getChangesSince(PersonChangeLog)}. Logs are immutable, so they can be handed to other threads, such as the
+ * one saving the address book. Only the last {@link #MAX_CHANGES} changes or so are kept; older states are forgotten.
+ */
+public class PersonChangeLog {
+
+    /** The number of changes after which older states are forgotten. */
+    static final int MAX_CHANGES = 10_000;
+
+    /** The log of the state before this one, or null if it has been forgotten. */
+    private final PersonChangeLog previous;
+    private final List<PersonChange> changes;
+    /** The number of changes in this log and the logs it links to. */
+    private final int changeCount;
+
+    /**
+     * Creates the log of a state from which no earlier state can be reached, such as that of a new address book.
+     */
+    public PersonChangeLog() {
+        this(null, Collections.emptyList());
+    }
+
+    private PersonChangeLog(PersonChangeLog previous, List<PersonChange> changes) {
+        this.previous = previous;
+        this.changes = changes;
+        this.changeCount = changes.size() + (previous == null ? 0 : previous.changeCount);
+    }
+
+    /**
+     * Returns the log of the state that {@code changes} lead to from the state of this log.
+     */
+    public PersonChangeLog append(List<PersonChange> changes) {
+        requireNonNull(changes);
+        List<PersonChange> copy = Collections.unmodifiableList(new ArrayList<>(changes));
+        if (changeCount + copy.size() > MAX_CHANGES) {
+            // start a new chain from this state, forgetting the ones before it
+            return new PersonChangeLog(new PersonChangeLog(), copy);
+        }
+        return new PersonChangeLog(this, copy);
+    }
+
+    /**
+     * Returns the changes that lead from the state of {@code earlierLog} to the state of this log, in the order they
+     * were made, or an empty {@code Optional} if {@code earlierLog} is not the log of an earlier state that is still
+     * known.
+     */
+    public Optional<List<PersonChange>> getChangesSince(PersonChangeLog earlierLog) {
+        requireNonNull(earlierLog);
+
+        List<PersonChangeLog> logs = new ArrayList<>();
+        for (PersonChangeLog log = this; log != earlierLog; log = log.previous) {
+            if (log == null) {
+                return Optional.empty();
+            }
+            logs.add(log);
+        }
+
+        List<PersonChange> changesSince = new ArrayList<>();
+        for (int i = logs.size() - 1; i >= 0; i--) {
+            changesSince.addAll(logs.get(i).changes);
+        }
+        return Optional.of(changesSince);
+    }
+}
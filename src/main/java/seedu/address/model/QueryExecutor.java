@@ -0,0 +1,431 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+import javafx.application.Platform;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.person.PersonSearchIndex;
+
+/**
+ * Filters the displayed person list of a model by a search query, off the UI thread for large address books.
+ * <p>
+ * The candidates of a query are looked up in the search index of the address book, and if there are few of them, or
+ * the address book is small, the list is filtered synchronously. Otherwise the candidates, or every person if the
+ * query cannot be looked up in the index, are tested on a worker pool against a snapshot of the persons, which are
+ * immutable, and the matches are published to the displayed list in chunks on the UI thread as they are found. Only
+ * one query runs at a time: submitting a query cancels the one in flight, as does any other change to the predicate
+ * of the displayed list, such as a {@code list} command. Persons added or edited while a query runs are tested when
+ * they change, like with any other predicate of the displayed list. If a query fails, the predicate that the list
+ * had before it is restored.
+ * <p>
+ * The matches of the last {@link #CACHE_CAPACITY} completed queries are kept as bit sets over a shared snapshot of
+ * the persons, until the address book changes. Submitting one of those queries again lists its matches at once, and a
+ * query that is narrower than one of them, such as one whose keyword has been typed further, only tests its matches.
+ */
+class QueryExecutor {
+
+    /** Queries with fewer candidates than this are evaluated synchronously, which is quick enough for them. */
+    static final int MIN_ASYNC_SIZE = 20_000;
+
+    /** Number of completed queries whose matches are kept. */
+    static final int CACHE_CAPACITY = 16;
+
+    static final String MESSAGE_QUERY_FAILED = "The search could not finish, so the list shows what it did before.";
+
+    private static final int CHUNK_SIZE = 8192;
+    // about one frame, so that matches keep appearing smoothly while a query runs
+    private static final long PUBLISH_INTERVAL_NANOS = 16_000_000L;
+
+    private static final Logger logger = LogsCenter.getLogger(QueryExecutor.class);
+
+    private final Model model;
+    private final PersonSearchIndex searchIndex;
+    private final Executor worker;
+    private final Executor publisher;
+    private final int minAsyncSize;
+    // only accessed on the thread that owns the model
+    private Query current;
+    private ResultCache cache;
+
+    /**
+     * Creates a {@code QueryExecutor} for {@code model}, whose address book is indexed by {@code searchIndex}, that
+     * evaluates queries on the common fork-join pool and publishes their matches on the JavaFX application thread.
+     */
+    QueryExecutor(Model model, PersonSearchIndex searchIndex) {
+        this(model, searchIndex, ForkJoinPool.commonPool(), Platform::runLater, MIN_ASYNC_SIZE);
+    }
+
+    /**
+     * Creates a {@code QueryExecutor} for {@code model}, whose address book is indexed by {@code searchIndex}, that
+     * evaluates queries on {@code worker} and publishes their matches on {@code publisher}, which must run tasks on
+     * the thread that owns the model, in order.
+     */
+    QueryExecutor(Model model, PersonSearchIndex searchIndex, Executor worker, Executor publisher, int minAsyncSize) {
+        requireAllNonNull(model, searchIndex, worker, publisher);
+        this.model = model;
+        this.searchIndex = searchIndex;
+        this.worker = worker;
+        this.publisher = publisher;
+        this.minAsyncSize = minAsyncSize;
+    }
+
+    /**
+     * Filters the displayed person list of the model by {@code predicate}, cancelling the query in flight.
+     * Must be called on the thread that owns the model.
+     *
+     * @return the number of matching persons, which is already available if the list was filtered synchronously or
+     *     the matches were cached, or a future that is cancelled if the query is cancelled before it completes, and
+     *     completed exceptionally with {@link #MESSAGE_QUERY_FAILED} if the query fails.
+     */
+    CompletableFuture<Integer> submit(PersonContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        cancel();
+
+        if (model.getAddressBook().getPersonList().size() < minAsyncSize) {
+            return filterSynchronously(searchIndex.narrow(predicate));
+        }
+
+        if (cache != null && !cache.isValidFor(model.getAddressBookVersion())) {
+            cache = null;
+        }
+        BitSet cachedMatches = cache == null ? null : cache.get(predicate);
+        if (cachedMatches != null) {
+            return filterSynchronously(cache.resultOf(predicate, cachedMatches));
+        }
+        BitSet baseMatches = cache == null ? null : cache.getNarrowestBase(predicate);
+        if (baseMatches != null) {
+            return start(new Query(predicate, cache, baseMatches, null));
+        }
+
+        // the candidates are looked up from the trigrams of the keywords, which is quick even for large address books
+        Optional<Set<Person>> candidates = searchIndex.getCandidates(predicate);
+        if (candidates.isPresent() && candidates.get().size() < minAsyncSize) {
+            return filterSynchronously(searchIndex.narrow(predicate, candidates.get()));
+        }
+        return start(new Query(predicate, cache, null, candidates.orElse(null)));
+    }
+
+    /**
+     * Cancels the query in flight, if any, leaving the matches published so far displayed.
+     * Must be called on the thread that owns the model.
+     */
+    void cancel() {
+        if (current != null) {
+            current.cancel();
+            current = null;
+        }
+    }
+
+    private CompletableFuture<Integer> filterSynchronously(Predicate<Person> predicate) {
+        model.updateFilteredPersonList(predicate);
+        return CompletableFuture.completedFuture(model.getFilteredPersonList().size());
+    }
+
+    private CompletableFuture<Integer> start(Query query) {
+        current = query;
+        query.start();
+        return query.matchCount;
+    }
+
+    /**
+     * Keeps the matches of a completed query, unless the address book has changed since its snapshot was taken.
+     */
+    private void cacheMatches(Query query, Map<Person, Integer> positions, BitSet matches) {
+        if (query.addressBookVersion != model.getAddressBookVersion()) {
+            return;
+        }
+        if (cache == null || cache.persons != query.persons) {
+            cache = new ResultCache(query.addressBookVersion, query.persons, positions);
+        }
+        cache.put(query.predicate, matches);
+    }
+
+    private static Map<Person, Integer> indexPositions(List<Person> persons) {
+        Map<Person, Integer> positions = new IdentityHashMap<>(persons.size());
+        for (int i = 0; i < persons.size(); i++) {
+            positions.put(persons.get(i), i);
+        }
+        return positions;
+    }
+
+    /**
+     * A query over a snapshot of the persons of the model.
+     */
+    private class Query {
+        private final PersonContainsKeywordsPredicate predicate;
+        private final long addressBookVersion;
+        private final List<Person> persons;
+        /** Position of each person in {@code persons}, or null if it is still to be built by the worker. */
+        private final Map<Person, Integer> basePositions;
+        /** Positions of the matches of a cached query that this query refines, which stay listed until tested. */
+        private final BitSet baseMatches;
+        /** The candidates found in the search index, or null if they are {@code baseMatches} or every person. */
+        private final Set<Person> candidates;
+        private final CompletableFuture<Integer> matchCount = new CompletableFuture<>();
+        private volatile boolean isCancelled;
+
+        // only accessed on the publisher
+        private Predicate<Person> predicateBefore;
+        private Predicate<Person> publishedPredicate;
+
+        /**
+         * Creates a query over the snapshot of {@code cache}, or over a new snapshot of the model if {@code cache} is
+         * null, which only tests {@code baseMatches} or {@code candidates} if either is given.
+         */
+        Query(PersonContainsKeywordsPredicate predicate, ResultCache cache, BitSet baseMatches,
+              Set<Person> candidates) {
+            this.predicate = predicate;
+            this.baseMatches = baseMatches;
+            this.candidates = candidates;
+            if (cache == null) {
+                addressBookVersion = model.getAddressBookVersion();
+                persons = new ArrayList<>(model.getAddressBook().getPersonList());
+                basePositions = null;
+            } else {
+                addressBookVersion = cache.addressBookVersion;
+                persons = cache.persons;
+                basePositions = cache.positions;
+            }
+        }
+
+        void start() {
+            Predicate<? super Person> currentPredicate = model.getFilteredPersonListPredicate();
+            predicateBefore = currentPredicate == null ? PREDICATE_SHOW_ALL_PERSONS : currentPredicate::test;
+            // the list only shows the persons not in the snapshot, and the base matches if any, until the first
+            // matches are published, which also marks it as filtered by this query
+            publish(new QueryResult(basePositions, predicate, new BitSet(), 0, baseMatches, this));
+            worker.execute(this::evaluate);
+        }
+
+        /**
+         * Tests the candidates in chunks, publishing the matches found so far at most once every
+         * {@link #PUBLISH_INTERVAL_NANOS}, and all of them at the end. Runs on the worker.
+         */
+        void evaluate() {
+            try {
+                Map<Person, Integer> positions = basePositions == null ? indexPositions(persons) : basePositions;
+                int[] candidatePositions = getCandidatePositions(positions);
+
+                BitSet matches = new BitSet(persons.size());
+                long lastPublished = System.nanoTime();
+                for (int start = 0; start < candidatePositions.length && !isCancelled; start += CHUNK_SIZE) {
+                    int end = Math.min(start + CHUNK_SIZE, candidatePositions.length);
+                    markMatches(matches, candidatePositions, start, end);
+                    if (end < candidatePositions.length
+                            && System.nanoTime() - lastPublished >= PUBLISH_INTERVAL_NANOS) {
+                        lastPublished = System.nanoTime();
+                        QueryResult result = new QueryResult(positions, predicate, (BitSet) matches.clone(),
+                                candidatePositions[end], baseMatches, this);
+                        publisher.execute(() -> publish(result));
+                    }
+                }
+                if (isCancelled) {
+                    return;
+                }
+
+                QueryResult result = new QueryResult(positions, predicate, matches, persons.size(), null, this);
+                publisher.execute(() -> complete(result, positions, matches));
+            } catch (RuntimeException e) {
+                logger.warning("Search failed: " + e);
+                publisher.execute(() -> fail(e));
+            }
+        }
+
+        /**
+         * Returns the positions in the snapshot of the persons to test, in ascending order.
+         */
+        private int[] getCandidatePositions(Map<Person, Integer> positions) {
+            if (baseMatches != null) {
+                return baseMatches.stream().toArray();
+            }
+            if (candidates != null) {
+                // the candidates were looked up at the version of the snapshot, so they are all in it
+                return candidates.stream().mapToInt(positions::get).sorted().toArray();
+            }
+            return IntStream.range(0, persons.size()).toArray();
+        }
+
+        private void markMatches(BitSet matches, int[] candidatePositions, int start, int end) {
+            // the bit set is not thread-safe, so it is only updated from this thread
+            int[] matchingPositions = IntStream.range(start, end).parallel()
+                    .map(i -> candidatePositions[i])
+                    .filter(position -> predicate.test(persons.get(position)))
+                    .toArray();
+            for (int position : matchingPositions) {
+                matches.set(position);
+            }
+        }
+
+        private void complete(QueryResult result, Map<Person, Integer> positions, BitSet matches) {
+            if (publish(result)) {
+                cacheMatches(this, positions, matches);
+                matchCount.complete(model.getFilteredPersonList().size());
+            }
+        }
+
+        /**
+         * Restores the predicate that the displayed list had before this query, unless it has been changed by someone
+         * else since, and fails the query. Runs on the publisher.
+         */
+        private void fail(RuntimeException e) {
+            if (isCancelled) {
+                return;
+            }
+            if (model.getFilteredPersonListPredicate() == publishedPredicate) {
+                model.updateFilteredPersonList(predicateBefore);
+            }
+            isCancelled = true;
+            matchCount.completeExceptionally(new IllegalStateException(MESSAGE_QUERY_FAILED, e));
+        }
+
+        /**
+         * Installs {@code result} as the predicate of the displayed list, unless this query has been cancelled or the
+         * predicate has been changed by someone else since it was last published, which cancels this query.
+         * Runs on the publisher. Returns true if {@code result} was installed.
+         */
+        boolean publish(Predicate<Person> result) {
+            if (!isCancelled && publishedPredicate != null
+                    && model.getFilteredPersonListPredicate() != publishedPredicate) {
+                cancel();
+            }
+            if (isCancelled) {
+                return false;
+            }
+            model.updateFilteredPersonList(result);
+            publishedPredicate = result;
+            return true;
+        }
+
+        void cancel() {
+            isCancelled = true;
+            matchCount.cancel(false);
+        }
+    }
+
+    /**
+     * The matches of the most recently used completed queries, over the same snapshot of the persons of the model.
+     */
+    private static class ResultCache {
+        private final long addressBookVersion;
+        private final List<Person> persons;
+        private final Map<Person, Integer> positions;
+        private final Map<PersonContainsKeywordsPredicate, BitSet> matches =
+                new LinkedHashMap<>(CACHE_CAPACITY, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<PersonContainsKeywordsPredicate, BitSet> eldest) {
+                        return size() > CACHE_CAPACITY;
+                    }
+                };
+
+        ResultCache(long addressBookVersion, List<Person> persons, Map<Person, Integer> positions) {
+            this.addressBookVersion = addressBookVersion;
+            this.persons = persons;
+            this.positions = positions;
+        }
+
+        /**
+         * Returns true if the snapshot is still that of the persons of the address book at {@code version}.
+         */
+        boolean isValidFor(long version) {
+            return addressBookVersion == version;
+        }
+
+        BitSet get(PersonContainsKeywordsPredicate predicate) {
+            return matches.get(predicate);
+        }
+
+        void put(PersonContainsKeywordsPredicate predicate, BitSet predicateMatches) {
+            matches.put(predicate, predicateMatches);
+        }
+
+        /**
+         * Returns the fewest cached matches that include every match of {@code predicate}, or null if there are none.
+         */
+        BitSet getNarrowestBase(PersonContainsKeywordsPredicate predicate) {
+            PersonContainsKeywordsPredicate narrowestBase = null;
+            int narrowestCount = Integer.MAX_VALUE;
+            // iterating does not count as a use of the entries
+            for (Map.Entry<PersonContainsKeywordsPredicate, BitSet> entry : matches.entrySet()) {
+                int count = entry.getValue().cardinality();
+                if (count < narrowestCount && predicate.isNarrowerThan(entry.getKey())) {
+                    narrowestBase = entry.getKey();
+                    narrowestCount = count;
+                }
+            }
+            return narrowestBase == null ? null : matches.get(narrowestBase);
+        }
+
+        /**
+         * Returns a predicate that accepts the persons of the snapshot at the positions in {@code predicateMatches}.
+         */
+        QueryResult resultOf(Predicate<Person> predicate, BitSet predicateMatches) {
+            return new QueryResult(positions, predicate, predicateMatches, persons.size(), null, null);
+        }
+    }
+
+    /**
+     * Accepts the persons that a query has found to match among those it has tested so far, and the base matches it
+     * has yet to test if it is refining an earlier query. Persons that were not in the snapshot of the query, because
+     * they were added or edited since, are tested by the query's predicate itself, as are the persons it has yet to
+     * test once it is cancelled, so that the result is complete if it is installed again later, such as when a
+     * preview that cancelled the query ends.
+     */
+    private static class QueryResult implements Predicate<Person> {
+        /** Position of each person in the snapshot, or null if the worker has not indexed the snapshot yet. */
+        private final Map<Person, Integer> positions;
+        private final Predicate<Person> predicate;
+        private final BitSet matches;
+        /** Persons before this position have been tested. */
+        private final int testedLimit;
+        /** Positions of the untested persons that are accepted until they are tested, or null if there are none. */
+        private final BitSet untestedMatches;
+        /** The query that this is a result of, or null if the result is complete. */
+        private final Query query;
+
+        QueryResult(Map<Person, Integer> positions, Predicate<Person> predicate, BitSet matches, int testedLimit,
+                    BitSet untestedMatches, Query query) {
+            this.positions = positions;
+            this.predicate = predicate;
+            this.matches = matches;
+            this.testedLimit = testedLimit;
+            this.untestedMatches = untestedMatches;
+            this.query = query;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            boolean isQueryCancelled = query != null && query.isCancelled;
+            Integer position = positions == null ? null : positions.get(person);
+            if (position == null) {
+                // before the snapshot is indexed, a person cannot be told apart from one added since
+                return (positions != null || isQueryCancelled) && predicate.test(person);
+            }
+            if (position < testedLimit) {
+                return matches.get(position);
+            }
+            if (isQueryCancelled) {
+                return predicate.test(person);
+            }
+            return untestedMatches != null && untestedMatches.get(position);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.address.model;
 
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
 
@@ -14,4 +16,11 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns the log of the changes made to the persons, up to their current state, if they are tracked.
+     */
+    default Optional<PersonChangeLog> getChangeLog() {
+        return Optional.empty();
+    }
+
 }
@@ -3,6 +3,8 @@ package seedu.address.model.intention;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents an Intention in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidIntentionName(String)}
@@ -12,8 +14,13 @@ public class Intention {
     public static final String MESSAGE_CONSTRAINTS = "Intention must be 'sell' or 'rent'";
     public static final String VALIDATION_REGEX = "sell|rent"; // case sensitive
 
+    public static final Intention SELL = new Intention("sell");
+    public static final Intention RENT = new Intention("rent");
+
     public final String intentionName;
 
+    private final int hashCode;
+
     /**
      * Constructs a {@code Intention}.
      *
@@ -23,13 +30,30 @@ public class Intention {
         requireNonNull(intentionName);
         checkArgument(isValidIntentionName(intentionName), MESSAGE_CONSTRAINTS);
         this.intentionName = intentionName.toLowerCase(); // normalize to lowercase
+        hashCode = this.intentionName.hashCode();
+    }
+
+    /**
+     * Returns {@link #SELL} or {@link #RENT}, whichever {@code intentionName} names, ignoring case.
+     *
+     * @param intentionName A valid intention name.
+     */
+    public static Intention of(String intentionName) {
+        requireNonNull(intentionName);
+        String lowerCaseName = intentionName.toLowerCase();
+        if (SELL.intentionName.equals(lowerCaseName)) {
+            return SELL;
+        } else if (RENT.intentionName.equals(lowerCaseName)) {
+            return RENT;
+        }
+        throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
     }
 
     /**
      * Returns true if a given string is a valid intention name.
      */
     public static boolean isValidIntentionName(String test) {
-        return test.toLowerCase().matches(VALIDATION_REGEX);
+        return ValidationPatternHolder.VALIDATION_PATTERN.matcher(test.toLowerCase()).matches();
     }
 
     @Override
@@ -44,12 +68,12 @@ public class Intention {
         }
 
         Intention otherIntention = (Intention) other;
-        return intentionName.equals(otherIntention.intentionName);
+        return hashCode == otherIntention.hashCode && intentionName.equals(otherIntention.intentionName);
     }
 
     @Override
     public int hashCode() {
-        return intentionName.hashCode();
+        return hashCode;
     }
 
     /**
@@ -59,4 +83,12 @@ public class Intention {
         return '[' + intentionName + ']';
     }
 
+    /**
+     * Holds the compiled {@link #VALIDATION_REGEX}, which is initialized on first use, so that {@link #SELL} and
+     * {@link #RENT} can be validated while the fields of {@code Intention} are still being initialized.
+     */
+    private static class ValidationPatternHolder {
+        private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    }
+
 }
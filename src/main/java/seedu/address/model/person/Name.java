@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /** Represents a person's name. */
 public class Name {
 
@@ -12,17 +14,22 @@ public class Name {
 
     public static final String VALIDATION_REGEX = "^[\\p{L}][\\p{L}\\p{M}\\p{N} .'-]*$";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String fullName;
 
+    private final int hashCode;
+
     /** Constructs a {@code Name}. */
     public Name(String name) {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        hashCode = fullName.hashCode();
     }
 
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -41,12 +48,12 @@ public class Name {
         }
 
         Name otherName = (Name) other;
-        return fullName.equals(otherName.fullName);
+        return hashCode == otherName.hashCode && fullName.equals(otherName.fullName);
     }
 
     @Override
     public int hashCode() {
-        return fullName.hashCode();
+        return hashCode;
     }
 
 }
@@ -2,8 +2,10 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Comparator;
 import java.util.Objects;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.intention.Intention;
 
@@ -13,6 +15,12 @@ import seedu.address.model.intention.Intention;
  */
 public class Person {
 
+    /**
+     * Orders persons alphabetically by name, ignoring case, then by phone, address and email.
+     * Being a single instance, installing it again on a sorted list that already uses it does not re-sort the list.
+     */
+    public static final Comparator<Person> NAME_ORDER = Person::compareByName;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -24,6 +32,19 @@ public class Person {
     private final Price price;
     private final Intention intention;
 
+    // Lower-cased text of the fields that searches look in, so that searches do not lower-case on every test.
+    // Phones have no letters, and pooled property types and intentions keep their own lower-cased text.
+    private final String nameText;
+    private final String emailText;
+    private final String addressText;
+
+    // Case-folded keys for NAME_ORDER, so that sorting does not fold case on every comparison
+    private final String nameKey;
+    private final String addressKey;
+    private final String emailKey;
+
+    // Persons are immutable and hashed often by the indexes of UniquePersonList, so the hash code is computed once
+    private final int hashCode;
 
     /**
      * Every field must be present and not null.
@@ -38,6 +59,16 @@ public class Person {
         this.propertyType = propertyType;
         this.price = price;
         this.intention = intention;
+
+        nameText = name.fullName.toLowerCase();
+        emailText = email.value.toLowerCase();
+        addressText = address.value.toLowerCase();
+
+        nameKey = toCollationKey(name.fullName, nameText);
+        addressKey = toCollationKey(address.value, addressText);
+        emailKey = toCollationKey(email.value, emailText);
+
+        hashCode = Objects.hash(name, phone, email, address, propertyType, price, intention);
     }
 
     /**
@@ -46,9 +77,9 @@ public class Person {
      */
     public Person(Name name, Phone phone, Email email, Address address) {
         this(name, phone, email, address,
-                new PropertyType("unspecified"),
-                new Price("0"),
-                new Intention("sell"));
+                PropertyType.of("unspecified"),
+                Price.of("0"),
+                Intention.SELL);
     }
 
     /**
@@ -56,8 +87,8 @@ public class Person {
      */
     public Person(Name name, Phone phone, Email email, Address address, Intention intention) {
         this(name, phone, email, address,
-                new PropertyType("unspecified"),
-                new Price("0"),
+                PropertyType.of("unspecified"),
+                Price.of("0"),
                 intention);
     }
 
@@ -89,6 +120,54 @@ public class Person {
         return intention;
     }
 
+    /**
+     * Returns the lower-cased text of {@code field}.
+     */
+    String getSearchText(SearchField field) {
+        switch (field) {
+        case NAME:
+            return nameText;
+        case PHONE:
+            return phone.value;
+        case EMAIL:
+            return emailText;
+        case ADDRESS:
+            return addressText;
+        case PROPERTY_TYPE:
+            return propertyType.lowerCaseValue;
+        case INTENTION:
+            // intention names are always lower-case
+            return intention.intentionName;
+        default:
+            throw new IllegalStateException("Unexpected value: " + field);
+        }
+    }
+
+    /**
+     * Returns the case-folded form of {@code value}, sharing the instance of its lower-cased form {@code lowerCased}
+     * when the two are equal, as they are for most values.
+     */
+    private static String toCollationKey(String value, String lowerCased) {
+        String key = StringUtil.foldCase(value);
+        return key.equals(lowerCased) ? lowerCased : key;
+    }
+
+    private static int compareByName(Person first, Person second) {
+        int cmp = first.nameKey.compareTo(second.nameKey);
+        if (cmp != 0) {
+            return cmp;
+        }
+        cmp = first.phone.value.compareTo(second.phone.value);
+        if (cmp != 0) {
+            return cmp;
+        }
+        cmp = first.addressKey.compareTo(second.addressKey);
+        if (cmp != 0) {
+            return cmp;
+        }
+        return first.emailKey.compareTo(second.emailKey);
+    }
+
     /**
      * Returns true if both persons have the same address.
      */
@@ -132,13 +211,7 @@ public class Person {
             return false;
         }
 
-        return name.equals(otherPerson.name)
-                && phone.equals(otherPerson.phone)
-                && email.equals(otherPerson.email)
-                && address.equals(otherPerson.address)
-                && propertyType.equals(otherPerson.propertyType)
-                && price.equals(otherPerson.price)
-                && intention.equals(otherPerson.intention);
+        return hasSameFields(otherPerson);
     }
 
     /**
@@ -157,7 +230,16 @@ public class Person {
         }
 
         Person otherPerson = (Person) other;
-        return name.equals(otherPerson.name)
+        return hasSameFields(otherPerson);
+    }
+
+    /**
+     * Returns true if both persons have equal fields, comparing their hash codes first so that most persons that
+     * differ are told apart without comparing any strings.
+     */
+    private boolean hasSameFields(Person otherPerson) {
+        return hashCode == otherPerson.hashCode
+                && name.equals(otherPerson.name)
                 && phone.equals(otherPerson.phone)
                 && email.equals(otherPerson.email)
                 && address.equals(otherPerson.address)
@@ -168,8 +250,7 @@ public class Person {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, propertyType, price, intention);
+        return hashCode;
     }
 
     @Override
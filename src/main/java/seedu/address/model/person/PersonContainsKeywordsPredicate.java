@@ -1,6 +1,12 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -20,6 +26,10 @@ import java.util.stream.Collectors;
  * Matching for most fields is case-insensitive and substring-based — e.g., the keyword {@code "ali"} will match
  * {@code "Alice"} or {@code "Salisbury"}. Price matching is exact.
  * </p>
+ * <p>
+ * The keywords are lower-cased and price keywords parsed once when the predicate is constructed, and
+ * {@link #test(Person)} stops at the first match, so testing a person does not allocate.
+ * </p>
  */
 public class PersonContainsKeywordsPredicate implements Predicate<Person> {
 
@@ -30,6 +40,8 @@ public class PersonContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> priceKeywords;
     private final List<String> propertyTypeKeywords;
     private final List<String> intentionKeywords;
+    private final String[][] lowerCaseKeywords;
+    private final PriceRange[] priceRanges;
 
     /**
      * Constructs a predicate that checks for matching keywords across multiple fields.
@@ -51,33 +63,82 @@ public class PersonContainsKeywordsPredicate implements Predicate<Person> {
         this.priceKeywords = priceKeywords;
         this.propertyTypeKeywords = propertyTypeKeywords;
         this.intentionKeywords = intentionKeywords;
+
+        lowerCaseKeywords = new String[SearchField.VALUES.length][];
+        lowerCaseKeywords[SearchField.NAME.ordinal()] = toLowerCaseArray(nameKeywords);
+        lowerCaseKeywords[SearchField.PHONE.ordinal()] = toLowerCaseArray(phoneKeywords);
+        lowerCaseKeywords[SearchField.EMAIL.ordinal()] = toLowerCaseArray(emailKeywords);
+        lowerCaseKeywords[SearchField.ADDRESS.ordinal()] = toLowerCaseArray(addressKeywords);
+        lowerCaseKeywords[SearchField.PROPERTY_TYPE.ordinal()] = toLowerCaseArray(propertyTypeKeywords);
+        lowerCaseKeywords[SearchField.INTENTION.ordinal()] = toLowerCaseArray(intentionKeywords);
+        priceRanges = priceKeywords.stream().map(PriceRange::fromKeyword).toArray(PriceRange[]::new);
     }
 
-    @Override
-    public boolean test(Person person) {
-        boolean nameMatches = nameKeywords.stream()
-                .anyMatch(k -> person.getName().fullName.toLowerCase().contains(k.toLowerCase()));
+    private static String[] toLowerCaseArray(List<String> keywords) {
+        return keywords.stream().map(String::toLowerCase).toArray(String[]::new);
+    }
 
-        boolean phoneMatches = phoneKeywords.stream()
-                .anyMatch(k -> person.getPhone().value.toLowerCase().contains(k.toLowerCase()));
+    /**
+     * Returns the lower-cased keywords to look for in {@code field}.
+     */
+    String[] getLowerCaseKeywords(SearchField field) {
+        return lowerCaseKeywords[field.ordinal()];
+    }
 
-        boolean emailMatches = emailKeywords.stream()
-                .anyMatch(k -> person.getEmail().value.toLowerCase().contains(k.toLowerCase()));
+    PriceRange[] getPriceRanges() {
+        return priceRanges;
+    }
 
-        boolean addressMatches = addressKeywords.stream()
-                .anyMatch(k -> person.getAddress().value.toLowerCase().contains(k.toLowerCase()));
+    @Override
+    public boolean test(Person person) {
+        for (SearchField field : SearchField.VALUES) {
+            String text = person.getSearchText(field);
+            for (String keyword : lowerCaseKeywords[field.ordinal()]) {
+                if (text.contains(keyword)) {
+                    return true;
+                }
+            }
+        }
 
-        boolean priceMatches = priceKeywords.stream()
-                .anyMatch(k -> priceMatchesKeyword(person.getPrice().value, k));
+        long priceCents = person.getPrice().getCents();
+        for (PriceRange range : priceRanges) {
+            if (range.contains(priceCents)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-        boolean propertyTypeMatches = propertyTypeKeywords.stream()
-                .anyMatch(k -> person.getPropertyType().value.toLowerCase().contains(k.toLowerCase()));
+    /**
+     * Returns true if every person accepted by this predicate is also accepted by {@code other}.
+     * This is the case if each keyword of this predicate contains a keyword of {@code other} for the same field, and
+     * each price range of this predicate is within a price range of {@code other}, as when keywords are typed out.
+     */
+    public boolean isNarrowerThan(PersonContainsKeywordsPredicate other) {
+        requireNonNull(other);
+        for (SearchField field : SearchField.VALUES) {
+            for (String keyword : lowerCaseKeywords[field.ordinal()]) {
+                if (!containsAny(keyword, other.lowerCaseKeywords[field.ordinal()])) {
+                    return false;
+                }
+            }
+        }
 
-        boolean intentionMatches = intentionKeywords.stream()
-                .anyMatch(k -> person.getIntention().intentionName.toLowerCase().contains(k.toLowerCase()));
+        for (PriceRange range : priceRanges) {
+            if (Arrays.stream(other.priceRanges).noneMatch(range::isWithin)) {
+                return false;
+            }
+        }
+        return true;
+    }
 
-        return nameMatches || phoneMatches || emailMatches || addressMatches
-                || priceMatches || propertyTypeMatches || intentionMatches;
+    private static boolean containsAny(String text, String[] keywords) {
+        for (String keyword : keywords) {
+            if (text.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -98,6 +159,19 @@ public class PersonContainsKeywordsPredicate implements Predicate<Person> {
                 && equalIgnoreCase(intentionKeywords, o.intentionKeywords);
     }
 
+    @Override
+    public int hashCode() {
+        // consistent with equals, which ignores the order, case and duplicates of keywords, and price formatting
+        return Objects.hash(toLowerCaseSet(SearchField.NAME), toLowerCaseSet(SearchField.PHONE),
+                toLowerCaseSet(SearchField.EMAIL), toLowerCaseSet(SearchField.ADDRESS),
+                priceKeywords.stream().map(this::normalizePrice).collect(Collectors.toSet()),
+                toLowerCaseSet(SearchField.PROPERTY_TYPE), toLowerCaseSet(SearchField.INTENTION));
+    }
+
+    private Set<String> toLowerCaseSet(SearchField field) {
+        return new HashSet<>(Arrays.asList(lowerCaseKeywords[field.ordinal()]));
+    }
+
     /**
      * Returns true if both lists contain the same set of strings, ignoring case differences.
      * <p>
@@ -136,40 +210,4 @@ public class PersonContainsKeywordsPredicate implements Predicate<Person> {
             return s;
         }
     }
-
-    /**
-     * Returns true if the given price value matches the keyword exactly or falls within a range.
-     * <p>
-     * Examples:
-     * <ul>
-     *   <li>{@code priceMatchesKeyword("1000.00", "1000")} → true (exact match)</li>
-     *   <li>{@code priceMatchesKeyword("1100", "1000-1200")} → true (within range)</li>
-     *   <li>{@code priceMatchesKeyword("999", "1000-1200")} → false (below range)</li>
-     * </ul>
-     * Range comparisons are inclusive and whitespace-tolerant (e.g. "1000 - 1200" is valid).
-     * Invalid keywords (non-numeric) return false.
-     */
-    private boolean priceMatchesKeyword(String priceValue, String keyword) {
-        String normalizedKeyword = keyword.replaceAll("\\s+", ""); // remove spaces
-        String normalizedPrice = normalizePrice(priceValue);
-
-        try {
-            double personPrice = Double.parseDouble(normalizedPrice);
-
-            if (normalizedKeyword.contains("-")) {
-                String[] parts = normalizedKeyword.split("-");
-                if (parts.length == 2) {
-                    double lower = Double.parseDouble(normalizePrice(parts[0]));
-                    double upper = Double.parseDouble(normalizePrice(parts[1]));
-                    return personPrice >= lower && personPrice <= upper;
-                }
-            }
-
-            double keywordPrice = Double.parseDouble(normalizePrice(normalizedKeyword));
-            return Double.compare(personPrice, keywordPrice) == 0;
-
-        } catch (NumberFormatException e) {
-            return false;
-        }
-    }
 }
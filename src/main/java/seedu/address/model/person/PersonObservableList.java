@@ -0,0 +1,100 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * The backing list of a {@link UniquePersonList}, which can also replace or remove several persons as a single change
+ * that lists the affected rows, so that listeners such as filtered and sorted views only re-evaluate those rows.
+ */
+class PersonObservableList extends ModifiableObservableListBase<Person> {
+
+    // Views shift their own rows for each listed row, so a change affecting more rows than this is reported as a
+    // replacement of the whole list instead, which they handle in one pass
+    static final int MAX_LISTED_ROWS = 64;
+
+    private final List<Person> persons = new ArrayList<>();
+
+    /**
+     * Replaces the person at each of {@code indexes} with the person at the same index of {@code updatedPersons},
+     * notifying listeners of a single change.
+     */
+    void setAt(List<Integer> indexes, List<Person> updatedPersons) {
+        assert updatedPersons.size() == persons.size();
+        if (indexes.size() > MAX_LISTED_ROWS) {
+            setAll(updatedPersons);
+            return;
+        }
+
+        beginChange();
+        try {
+            for (int index : indexes) {
+                nextSet(index, persons.set(index, updatedPersons.get(index)));
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Removes the persons at {@code indexes}, which must be in ascending order, compacting the list in one pass and
+     * notifying listeners of a single change.
+     */
+    void removeAt(List<Integer> indexes) {
+        boolean isListingRows = indexes.size() <= MAX_LISTED_ROWS;
+        List<Person> oldPersons = isListingRows ? null : new ArrayList<>(persons);
+
+        beginChange();
+        try {
+            int removedCount = 0;
+            int writeIndex = 0;
+            for (int readIndex = 0; readIndex < persons.size(); readIndex++) {
+                Person person = persons.get(readIndex);
+                if (removedCount < indexes.size() && indexes.get(removedCount) == readIndex) {
+                    if (isListingRows) {
+                        // the persons before this one have already been removed from the listeners' point of view
+                        nextRemove(readIndex - removedCount, person);
+                    }
+                    removedCount++;
+                } else {
+                    persons.set(writeIndex++, person);
+                }
+            }
+            persons.subList(writeIndex, persons.size()).clear();
+            modCount++;
+            if (!isListingRows) {
+                nextRemove(0, oldPersons);
+                nextAdd(0, persons.size());
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public Person get(int index) {
+        return persons.get(index);
+    }
+
+    @Override
+    public int size() {
+        return persons.size();
+    }
+
+    @Override
+    protected void doAdd(int index, Person element) {
+        persons.add(index, element);
+    }
+
+    @Override
+    protected Person doSet(int index, Person element) {
+        return persons.set(index, element);
+    }
+
+    @Override
+    protected Person doRemove(int index) {
+        return persons.remove(index);
+    }
+}
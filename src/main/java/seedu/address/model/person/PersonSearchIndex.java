@@ -0,0 +1,251 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * A trigram index over the text fields of persons that {@link PersonContainsKeywordsPredicate} searches, together with
+ * a sorted index of their prices.
+ * <p>
+ * For each field, every three-character substring of the lower-cased field value maps to the persons whose field
+ * contains it. A keyword can only be a substring of a field that contains all of the keyword's trigrams, so
+ * intersecting their persons gives a small set of candidates, which still have to be checked by the predicate.
+ * Persons within a price range are found by walking the part of the price index between the two bounds.
+ * <p>
+ * Persons are tracked by reference, so the instances removed must be the ones that were added.
+ */
+public class PersonSearchIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    // A narrowed predicate tests up to this many persons directly after the index changes before looking up its
+    // candidates again, so that re-testing the few persons changed by an edit does not cost a lookup
+    private static final int MAX_TESTS_WITHOUT_LOOKUP = 64;
+
+    private final Map<SearchField, Map<String, Set<Person>>> postings = new EnumMap<>(SearchField.class);
+    private final NavigableMap<Long, Set<Person>> personsByPrice = new TreeMap<>();
+    private long version;
+
+    /**
+     * Creates an empty {@code PersonSearchIndex}.
+     */
+    public PersonSearchIndex() {
+        for (SearchField field : SearchField.VALUES) {
+            postings.put(field, new HashMap<>());
+        }
+    }
+
+    /**
+     * Returns a counter that changes whenever a person is added to or removed from this index.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        version++;
+        for (SearchField field : SearchField.VALUES) {
+            Map<String, Set<Person>> fieldPostings = postings.get(field);
+            String value = person.getSearchText(field);
+            for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+                fieldPostings.computeIfAbsent(value.substring(i, i + GRAM_LENGTH), gram -> newPersonSet())
+                        .add(person);
+            }
+        }
+        personsByPrice.computeIfAbsent(person.getPrice().getCents(), cents -> newPersonSet()).add(person);
+    }
+
+    /**
+     * Removes {@code person}, which must be the same instance that was added, from the index.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        version++;
+        for (SearchField field : SearchField.VALUES) {
+            Map<String, Set<Person>> fieldPostings = postings.get(field);
+            String value = person.getSearchText(field);
+            for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+                String gram = value.substring(i, i + GRAM_LENGTH);
+                Set<Person> persons = fieldPostings.get(gram);
+                if (persons != null && persons.remove(person) && persons.isEmpty()) {
+                    fieldPostings.remove(gram);
+                }
+            }
+        }
+        long cents = person.getPrice().getCents();
+        Set<Person> persons = personsByPrice.get(cents);
+        if (persons != null && persons.remove(person) && persons.isEmpty()) {
+            personsByPrice.remove(cents);
+        }
+    }
+
+    /**
+     * Removes all persons from the index.
+     */
+    void clear() {
+        version++;
+        postings.values().forEach(Map::clear);
+        personsByPrice.clear();
+    }
+
+    /**
+     * Returns the persons that may satisfy {@code predicate}. Every person that satisfies it is in the returned set,
+     * but not every person in the set satisfies it.
+     * Returns an empty {@code Optional} if some keyword of {@code predicate} cannot be looked up in the index, in which
+     * case every person is a candidate.
+     */
+    public Optional<Set<Person>> getCandidates(PersonContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+
+        Set<Person> candidates = newPersonSet();
+        addPriceCandidates(predicate.getPriceRanges(), candidates);
+        for (SearchField field : SearchField.VALUES) {
+            if (!addCandidates(field, predicate.getLowerCaseKeywords(field), candidates)) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(candidates);
+    }
+
+    /**
+     * Returns a predicate that accepts the same persons as {@code predicate}, but only evaluates {@code predicate} on
+     * the candidates found in this index. After the index has changed, the first few persons tested are checked by
+     * {@code predicate} alone, and the candidates are only looked up again if more persons are tested.
+     */
+    public Predicate<Person> narrow(PersonContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return new NarrowedPredicate(predicate);
+    }
+
+    /**
+     * Returns a predicate like {@link #narrow(PersonContainsKeywordsPredicate)}, starting from {@code candidates},
+     * which must have just been returned by {@link #getCandidates(PersonContainsKeywordsPredicate)} for
+     * {@code predicate}, so that they are not looked up again.
+     */
+    public Predicate<Person> narrow(PersonContainsKeywordsPredicate predicate, Set<Person> candidates) {
+        requireNonNull(predicate);
+        requireNonNull(candidates);
+        NarrowedPredicate narrowedPredicate = new NarrowedPredicate(predicate);
+        narrowedPredicate.candidates = candidates;
+        narrowedPredicate.lookedUpVersion = version;
+        narrowedPredicate.isLookedUp = true;
+        return narrowedPredicate;
+    }
+
+    /**
+     * Adds the persons whose {@code field} may contain any of {@code lowerCaseKeywords} to {@code candidates}.
+     * Returns false if a keyword is too short to be looked up.
+     */
+    private boolean addCandidates(SearchField field, String[] lowerCaseKeywords, Set<Person> candidates) {
+        Map<String, Set<Person>> fieldPostings = postings.get(field);
+        for (String lowerCaseKeyword : lowerCaseKeywords) {
+            if (lowerCaseKeyword.length() < GRAM_LENGTH) {
+                return false;
+            }
+
+            List<Set<Person>> gramPersons = getGramPersons(fieldPostings, lowerCaseKeyword);
+            if (gramPersons.isEmpty()) {
+                continue;
+            }
+
+            // walk the rarest trigram and check the others, which are only looked up once per keyword
+            gramPersons.sort(Comparator.comparingInt(Set::size));
+            for (Person person : gramPersons.get(0)) {
+                if (isInAll(person, gramPersons)) {
+                    candidates.add(person);
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds the persons whose price is within any of {@code ranges} to {@code candidates}.
+     */
+    private void addPriceCandidates(PriceRange[] ranges, Set<Person> candidates) {
+        for (PriceRange range : ranges) {
+            if (range.isEmpty()) {
+                continue;
+            }
+            personsByPrice.subMap(range.getLowerCents(), true, range.getUpperCents(), true).values()
+                    .forEach(candidates::addAll);
+        }
+    }
+
+    /**
+     * Returns the persons indexed under each trigram of {@code keyword}, or an empty list if some trigram has none.
+     */
+    private static List<Set<Person>> getGramPersons(Map<String, Set<Person>> fieldPostings, String keyword) {
+        List<Set<Person>> gramPersons = new ArrayList<>();
+        for (int i = 0; i + GRAM_LENGTH <= keyword.length(); i++) {
+            Set<Person> persons = fieldPostings.get(keyword.substring(i, i + GRAM_LENGTH));
+            if (persons == null) {
+                return Collections.emptyList();
+            }
+            gramPersons.add(persons);
+        }
+        return gramPersons;
+    }
+
+    private static boolean isInAll(Person person, List<Set<Person>> gramPersons) {
+        for (Set<Person> persons : gramPersons) {
+            if (!persons.contains(person)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Set<Person> newPersonSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * A {@code PersonContainsKeywordsPredicate} that skips persons which are not candidates in the index.
+     */
+    private class NarrowedPredicate implements Predicate<Person> {
+        private final PersonContainsKeywordsPredicate predicate;
+        private boolean isLookedUp;
+        private long lookedUpVersion;
+        /** Candidates found at {@code lookedUpVersion}, or null if every person is a candidate. */
+        private Set<Person> candidates;
+        /** Persons tested without a lookup since the index changed from {@code lookedUpVersion}. */
+        private int testsWithoutLookup;
+
+        NarrowedPredicate(PersonContainsKeywordsPredicate predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            if (isLookedUp && lookedUpVersion != version && testsWithoutLookup < MAX_TESTS_WITHOUT_LOOKUP) {
+                testsWithoutLookup++;
+                return predicate.test(person);
+            }
+            if (!isLookedUp || lookedUpVersion != version) {
+                candidates = getCandidates(predicate).orElse(null);
+                lookedUpVersion = version;
+                isLookedUp = true;
+                testsWithoutLookup = 0;
+            }
+            return (candidates == null || candidates.contains(person)) && predicate.test(person);
+        }
+    }
+}
@@ -3,6 +3,11 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.math.BigDecimal;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.InstancePool;
+
 /**
  * Represents a Person's property price in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPrice(String)}
@@ -19,8 +24,18 @@ public class Price {
     public static final String VALIDATION_REGEX =
             "^(?=(?:\\D*\\d\\D*){1,13}$)(0|[1-9]\\d{0,2}(?:,\\d{3})+|[1-9]\\d*)(\\.\\d{1,2})?$";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    private static final int POOL_CAPACITY = 4096;
+    private static final InstancePool<Price> pool = new InstancePool<>(Price::new, POOL_CAPACITY);
+
     public final String value;
 
+    private final int hashCode;
+
+    /** The price in cents, parsed once so that prices can be compared without reading {@code value}. */
+    private final long cents;
+
     /**
      * Constructs a {@code Price}.
      *
@@ -30,13 +45,31 @@ public class Price {
         requireNonNull(price);
         checkArgument(isValidPrice(price), MESSAGE_CONSTRAINTS);
         value = price;
+        hashCode = value.hashCode();
+        cents = new BigDecimal(price.replace(",", "")).movePointRight(2).longValueExact();
+    }
+
+    /**
+     * Returns the shared {@code Price} with the value {@code price}, which is only parsed the first time it is seen.
+     *
+     * @param price A valid price.
+     */
+    public static Price of(String price) {
+        return pool.get(price);
+    }
+
+    /**
+     * Returns the price in cents, e.g. 100050 for "1,000.50".
+     */
+    public long getCents() {
+        return cents;
     }
 
     /**
      * Returns true if a given string is a valid price.
      */
     public static boolean isValidPrice(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -56,12 +89,12 @@ public class Price {
         }
 
         Price otherPrice = (Price) other;
-        return value.equals(otherPrice.value);
+        return hashCode == otherPrice.hashCode && value.equals(otherPrice.value);
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return hashCode;
     }
 
 }
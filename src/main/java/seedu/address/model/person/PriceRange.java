@@ -0,0 +1,99 @@
+package seedu.address.model.person;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * An inclusive range of prices in cents, parsed from a price keyword of {@link PersonContainsKeywordsPredicate}.
+ * <p>
+ * A keyword is either a single price such as {@code "1,000"}, which is the range containing only that price, or two
+ * prices separated by {@code '-'} such as {@code "1000 - 1200"}. Keywords that cannot be parsed, or single prices that
+ * are not a whole number of cents, give an empty range.
+ */
+class PriceRange {
+
+    private static final PriceRange EMPTY = new PriceRange(Long.MAX_VALUE, Long.MIN_VALUE);
+
+    private final long lowerCents;
+    private final long upperCents;
+
+    private PriceRange(long lowerCents, long upperCents) {
+        this.lowerCents = lowerCents;
+        this.upperCents = upperCents;
+    }
+
+    /**
+     * Returns the range of prices matched by {@code keyword}.
+     */
+    static PriceRange fromKeyword(String keyword) {
+        String normalizedKeyword = keyword.replaceAll("\\s+", "");
+
+        try {
+            if (normalizedKeyword.contains("-")) {
+                String[] parts = normalizedKeyword.split("-");
+                if (parts.length == 2) {
+                    return of(parsePrice(parts[0]), parsePrice(parts[1]));
+                }
+            }
+
+            double price = parsePrice(normalizedKeyword);
+            return of(price, price);
+        } catch (NumberFormatException e) {
+            return EMPTY;
+        }
+    }
+
+    long getLowerCents() {
+        return lowerCents;
+    }
+
+    long getUpperCents() {
+        return upperCents;
+    }
+
+    boolean isEmpty() {
+        return lowerCents > upperCents;
+    }
+
+    boolean contains(long cents) {
+        return lowerCents <= cents && cents <= upperCents;
+    }
+
+    /**
+     * Returns true if every price in this range is also in {@code other}.
+     */
+    boolean isWithin(PriceRange other) {
+        return isEmpty() || (other.lowerCents <= lowerCents && upperCents <= other.upperCents);
+    }
+
+    private static double parsePrice(String price) {
+        return Double.parseDouble(price.replace(",", ""));
+    }
+
+    /**
+     * Returns the range of whole cents from {@code lower} to {@code upper}.
+     * Each bound is read as the shortest decimal that represents it, so the range contains exactly the prices of at
+     * most two decimal places that compare as within the bounds when converted to {@code double}.
+     */
+    private static PriceRange of(double lower, double upper) {
+        if (Double.isNaN(lower) || Double.isNaN(upper)) {
+            return EMPTY;
+        }
+        return new PriceRange(toCents(lower, RoundingMode.CEILING), toCents(upper, RoundingMode.FLOOR));
+    }
+
+    private static long toCents(double price, RoundingMode roundingMode) {
+        if (Double.isInfinite(price)) {
+            return price > 0 ? Long.MAX_VALUE : Long.MIN_VALUE;
+        }
+
+        BigDecimal cents = BigDecimal.valueOf(price).movePointRight(2).setScale(0, roundingMode);
+        if (cents.compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) > 0) {
+            return Long.MAX_VALUE;
+        }
+        if (cents.compareTo(BigDecimal.valueOf(Long.MIN_VALUE)) < 0) {
+            return Long.MIN_VALUE;
+        }
+        return cents.longValue();
+    }
+}
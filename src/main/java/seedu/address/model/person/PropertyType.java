@@ -3,6 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.InstancePool;
+
 /**
  * Represents a Person's property type in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPropertyType(String)}
@@ -18,8 +22,18 @@ public class PropertyType {
      */
     public static final String VALIDATION_REGEX = "[^\\s].{0,99}";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    private static final int POOL_CAPACITY = 1024;
+    private static final InstancePool<PropertyType> pool = new InstancePool<>(PropertyType::new, POOL_CAPACITY);
+
     public final String value;
 
+    /** Lower-cased {@link #value}, kept on the pooled instance so that persons sharing it do not each hold a copy. */
+    final String lowerCaseValue;
+
+    private final int hashCode;
+
     /**
      * Constructs a {@code PropertyType}.
      *
@@ -29,13 +43,24 @@ public class PropertyType {
         requireNonNull(propertyType);
         checkArgument(isValidPropertyType(propertyType), MESSAGE_CONSTRAINTS);
         value = propertyType;
+        lowerCaseValue = propertyType.toLowerCase();
+        hashCode = value.hashCode();
+    }
+
+    /**
+     * Returns the shared {@code PropertyType} with the value {@code propertyType}.
+     *
+     * @param propertyType A valid property type.
+     */
+    public static PropertyType of(String propertyType) {
+        return pool.get(propertyType);
     }
 
     /**
      * Returns true if a given string is a valid property type.
      */
     public static boolean isValidPropertyType(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -55,11 +80,11 @@ public class PropertyType {
         }
 
         PropertyType otherPropertyType = (PropertyType) other;
-        return value.equals(otherPropertyType.value);
+        return hashCode == otherPropertyType.hashCode && value.equals(otherPropertyType.value);
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return hashCode;
     }
 }
@@ -0,0 +1,16 @@
+package seedu.address.model.person;
+
+/**
+ * The text fields of a {@link Person} that keyword searches look in.
+ */
+enum SearchField {
+    NAME,
+    PHONE,
+    EMAIL,
+    ADDRESS,
+    PROPERTY_TYPE,
+    INTENTION;
+
+    /** Shared copy of {@link #values()}, which would otherwise allocate a new array on every call. */
+    static final SearchField[] VALUES = values();
+}
@@ -3,8 +3,15 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,20 +27,33 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Hash indexes on the full identity, the {@code Name} and the {@code Address} of the persons are kept alongside the
+ * backing list so that the duplicate checks do not need to scan the whole list, together with an index from case-folded
+ * names to persons for lookups by name. A {@link PersonSearchIndex} is kept for keyword searches. All indexes are
+ * updated before the backing list, so listeners of the list see them current.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final PersonObservableList internalList = new PersonObservableList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    // Person#equals compares the same fields as Person#isSamePerson, so the persons themselves are the identity keys
+    private final Set<Person> identityIndex = new HashSet<>();
+    private final Map<Name, Integer> nameCounts = new HashMap<>();
+    private final Map<Address, Integer> addressCounts = new HashMap<>();
+    // lower-cased full name -> persons with that name, in the order they were indexed
+    private final Map<String, List<Person>> personsByCaseFoldedName = new HashMap<>();
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex();
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityIndex.contains(toCheck);
     }
 
     /**
@@ -41,7 +61,7 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean hasAddress(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameAddress);
+        return addressCounts.containsKey(toCheck.getAddress());
     }
 
     /**
@@ -49,7 +69,18 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean hasName(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameName);
+        return nameCounts.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the persons whose full name equals {@code name}, ignoring case.
+     * The persons are returned in the order they appear in the list, except that a person renamed by
+     * {@link #setPerson(Person, Person)} comes after the others with its new name.
+     */
+    public List<Person> getPersonsWithName(Name name) {
+        requireNonNull(name);
+        List<Person> persons = personsByCaseFoldedName.get(name.fullName.toLowerCase());
+        return persons == null ? Collections.emptyList() : new ArrayList<>(persons);
     }
 
     /**
@@ -61,6 +92,7 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        index(toAdd);
         internalList.add(toAdd);
     }
 
@@ -81,22 +113,119 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        reindex(internalList.get(index), editedPerson);
         internalList.set(index, editedPerson);
     }
 
+    /**
+     * Replaces each person in the key set of {@code replacements} with the person it maps to.
+     * Every key must exist in the list, and the list must not contain duplicate persons after the replacements.
+     * The backing list is rewritten in place and listeners are notified of a single change.
+     */
+    public void setPersons(Map<Person, Person> replacements) {
+        requireNonNull(replacements);
+        replacements.forEach((target, editedPerson) -> requireAllNonNull(target, editedPerson));
+        if (replacements.isEmpty()) {
+            return;
+        }
+
+        Set<Person> editedPersons = new HashSet<>();
+        for (Person editedPerson : replacements.values()) {
+            boolean isKeptPerson = contains(editedPerson) && !replacements.containsKey(editedPerson);
+            if (!editedPersons.add(editedPerson) || isKeptPerson) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        List<Person> updatedPersons = new ArrayList<>(internalList.size());
+        List<Person> storedTargets = new ArrayList<>(replacements.size());
+        List<Integer> targetIndexes = new ArrayList<>(replacements.size());
+        for (Person person : internalList) {
+            Person editedPerson = replacements.get(person);
+            if (editedPerson == null) {
+                updatedPersons.add(person);
+            } else {
+                targetIndexes.add(updatedPersons.size());
+                updatedPersons.add(editedPerson);
+                storedTargets.add(person);
+            }
+        }
+        if (storedTargets.size() != replacements.size()) {
+            throw new PersonNotFoundException();
+        }
+
+        // targets are unindexed first, as an edited person may be equal to another target
+        storedTargets.forEach(this::unindexExceptNameLookup);
+        storedTargets.forEach(target -> indexExceptNameLookup(replacements.get(target)));
+        rebuildNameLookup(updatedPersons);
+        internalList.setAt(targetIndexes, updatedPersons);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the list, notifying listeners of a single change.
+     * None of the persons may already exist in the list or appear more than once in {@code toAdd}.
+     */
+    public void addAll(Collection<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<Person> seen = new HashSet<>();
+        for (Person person : toAdd) {
+            if (contains(person) || !seen.add(person)) {
+                throw new DuplicatePersonException();
+            }
+        }
+        if (toAdd.isEmpty()) {
+            return;
+        }
+
+        toAdd.forEach(this::index);
+        internalList.addAll(toAdd);
+    }
+
+    /**
+     * Removes the equivalent persons of {@code toRemove} from the list.
+     * Every person must exist in the list; if one does not, the list is left unchanged.
+     * The backing list is compacted in one pass and listeners are notified of a single change.
+     */
+    public void removeAll(Collection<Person> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<Person> removals = new HashSet<>(toRemove);
+        for (Person person : removals) {
+            if (!contains(person)) {
+                throw new PersonNotFoundException();
+            }
+        }
+        if (removals.isEmpty()) {
+            return;
+        }
+
+        List<Integer> removedIndexes = new ArrayList<>(removals.size());
+        for (int i = 0; i < internalList.size(); i++) {
+            Person person = internalList.get(i);
+            if (removals.contains(person)) {
+                unindex(person);
+                removedIndexes.add(i);
+            }
+        }
+        internalList.removeAt(removedIndexes);
+    }
+
     /**
      * Removes the equivalent person from the list.
      * The person must exist in the list.
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        unindex(internalList.get(index));
+        internalList.remove(index);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        rebuildIndexes(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -110,9 +239,17 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        rebuildIndexes(persons);
         internalList.setAll(persons);
     }
 
+    /**
+     * Returns the trigram index over the persons in this list.
+     */
+    public PersonSearchIndex getSearchIndex() {
+        return searchIndex;
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -150,15 +287,102 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    /**
+     * Adds {@code person} to the identity, name, address and search indexes.
+     */
+    private void index(Person person) {
+        addToNameLookup(person);
+        indexExceptNameLookup(person);
+    }
+
+    /**
+     * Moves the index entries of {@code storedTarget} to {@code editedPerson}, keeping the edited person in the same
+     * place among the persons with its name if the name is unchanged.
+     */
+    private void reindex(Person storedTarget, Person editedPerson) {
+        String caseFoldedName = storedTarget.getSearchText(SearchField.NAME);
+        if (!caseFoldedName.equals(editedPerson.getSearchText(SearchField.NAME))) {
+            unindex(storedTarget);
+            index(editedPerson);
+            return;
+        }
+
+        List<Person> namesakes = personsByCaseFoldedName.get(caseFoldedName);
+        namesakes.set(indexOfInstance(namesakes, storedTarget), editedPerson);
+        unindexExceptNameLookup(storedTarget);
+        indexExceptNameLookup(editedPerson);
+    }
+
+    /**
+     * Removes {@code person}, which must be the stored instance, from the identity, name, address and search indexes.
+     */
+    private void unindex(Person person) {
+        String caseFoldedName = person.getSearchText(SearchField.NAME);
+        List<Person> namesakes = personsByCaseFoldedName.get(caseFoldedName);
+        namesakes.remove(indexOfInstance(namesakes, person));
+        if (namesakes.isEmpty()) {
+            personsByCaseFoldedName.remove(caseFoldedName);
+        }
+        unindexExceptNameLookup(person);
+    }
+
+    private void addToNameLookup(Person person) {
+        personsByCaseFoldedName.computeIfAbsent(person.getSearchText(SearchField.NAME), name -> new ArrayList<>())
+                .add(person);
+    }
+
+    /**
+     * Rebuilds the name lookup from {@code persons}, so that persons with the same name are kept in list order.
+     */
+    private void rebuildNameLookup(List<Person> persons) {
+        personsByCaseFoldedName.clear();
+        persons.forEach(this::addToNameLookup);
+    }
+
+    private void indexExceptNameLookup(Person person) {
+        identityIndex.add(person);
+        searchIndex.add(person);
+        nameCounts.merge(person.getName(), 1, Integer::sum);
+        addressCounts.merge(person.getAddress(), 1, Integer::sum);
+    }
+
+    private void unindexExceptNameLookup(Person person) {
+        identityIndex.remove(person);
+        searchIndex.remove(person);
+        nameCounts.computeIfPresent(person.getName(), (name, count) -> count == 1 ? null : count - 1);
+        addressCounts.computeIfPresent(person.getAddress(), (address, count) -> count == 1 ? null : count - 1);
+    }
+
+    /**
+     * Rebuilds all indexes from {@code persons}, which are about to become the contents of the backing list.
+     */
+    private void rebuildIndexes(List<Person> persons) {
+        identityIndex.clear();
+        nameCounts.clear();
+        addressCounts.clear();
+        personsByCaseFoldedName.clear();
+        searchIndex.clear();
+        persons.forEach(this::index);
+    }
+
+    private static int indexOfInstance(List<Person> persons, Person person) {
+        for (int i = 0; i < persons.size(); i++) {
+            if (persons.get(i) == person) {
+                return i;
+            }
+        }
+        throw new PersonNotFoundException();
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
+     * Hashing is sufficient as {@code Person#equals} and {@code Person#isSamePerson} compare the same fields.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Person> seen = new HashSet<>();
+        for (Person person : persons) {
+            if (!seen.add(person)) {
+                return false;
             }
         }
         return true;
@@ -19,28 +19,28 @@ public class SampleDataUtil {
         return new Person[] {
             new Person(new Name("Alex Yeoh"), new Phone("87438807"), new Email("alexyeoh@example.com"),
                 new Address("Blk 30 Geylang Street 29, #06-40"),
-                new PropertyType("hdb 3-room flat"), new Price("460000"),
-                new Intention("sell")),
+                PropertyType.of("hdb 3-room flat"), Price.of("460000"),
+                Intention.SELL),
             new Person(new Name("Bernice Yu"), new Phone("99272758"), new Email("berniceyu@example.com"),
                 new Address("Blk 30 Lorong 3 Serangoon Gardens, #07-18"),
-                new PropertyType("hdb 3-room"), new Price("432900"),
-                new Intention("rent")),
+                PropertyType.of("hdb 3-room"), Price.of("432900"),
+                Intention.RENT),
             new Person(new Name("Charlotte Oliveiro"), new Phone("93210283"), new Email("charlotte@example.com"),
                 new Address("Blk 11 Ang Mo Kio Street 74, #11-04"),
-                new PropertyType("hdb 4-room flat"), new Price("540000"),
-                new Intention("sell")),
+                PropertyType.of("hdb 4-room flat"), Price.of("540000"),
+                Intention.SELL),
             new Person(new Name("David Li"), new Phone("91031282"), new Email("lidavid@example.com"),
                 new Address("Blk 436 Serangoon Gardens Street 26, #16-43"),
-                new PropertyType("hdb 3-room"), new Price("491999"),
-                new Intention("rent")),
+                PropertyType.of("hdb 3-room"), Price.of("491999"),
+                Intention.RENT),
             new Person(new Name("Irfan Ibrahim"), new Phone("92492021"), new Email("irfan@example.com"),
                 new Address("Blk 47 Tampines Street 20, #17-35"),
-                new PropertyType("hdb 4-room"), new Price("578888"),
-                new Intention("sell")),
+                PropertyType.of("hdb 4-room"), Price.of("578888"),
+                Intention.SELL),
             new Person(new Name("Roy Balakrishnan"), new Phone("92624417"), new Email("royb@example.com"),
                 new Address("Blk 45 Aljunied Street 85, #11-31"),
-                new PropertyType("hdb 5 room"), new Price("670190"),
-                new Intention("rent"))
+                PropertyType.of("hdb 5 room"), Price.of("670190"),
+                Intention.RENT)
         };
     }
 
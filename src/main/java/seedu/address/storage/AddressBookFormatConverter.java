@@ -0,0 +1,81 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Converts AddressBook data from one storage format to another, such as an existing json data file to the binary
+ * format of {@link BinaryAddressBookStorage}, or a binary data file back to json when the json format is chosen again.
+ */
+public class AddressBookFormatConverter {
+
+    private static final String JSON_EXTENSION = ".json";
+
+    /**
+     * Returns the path of the binary data file used in place of the json data file at {@code jsonFilePath}, which has
+     * the same name with its {@code .json} extension, if any, replaced by
+     * {@link BinaryAddressBookStorage#FILE_EXTENSION}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        requireNonNull(jsonFilePath);
+        String fileName = jsonFilePath.getFileName().toString();
+        if (fileName.toLowerCase().endsWith(JSON_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - JSON_EXTENSION.length());
+        }
+        return jsonFilePath.resolveSibling(fileName + BinaryAddressBookStorage.FILE_EXTENSION);
+    }
+
+    /**
+     * Saves the data read from {@code source} to {@code target}, leaving the data in {@code source} as it is.
+     * Returns false, without saving anything, if {@code source} has no data file.
+     *
+     * @throws DataLoadingException if the data in {@code source} could not be read.
+     * @throws IOException if the data could not be saved to {@code target}.
+     */
+    public static boolean convert(AddressBookStorage source, AddressBookStorage target)
+            throws DataLoadingException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        Optional<ReadOnlyAddressBook> addressBook = source.readAddressBook();
+        if (!addressBook.isPresent()) {
+            return false;
+        }
+        target.saveAddressBook(addressBook.get());
+        return true;
+    }
+
+    /**
+     * Saves the data read from {@code source} to {@code target} if the data in {@code source}, including its journal,
+     * was changed after the data in {@code target}, or {@code target} has no data. Returns true if the data was saved.
+     * As saving changes {@code target}, it is not converted again until {@code source} is changed after that.
+     *
+     * @throws DataLoadingException if the data in {@code source} could not be read.
+     * @throws IOException if the data files could not be accessed, or the data could not be saved to {@code target}.
+     */
+    public static boolean convertIfNewer(JournaledAddressBookStorage source, JournaledAddressBookStorage target)
+            throws DataLoadingException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        Optional<FileTime> sourceTime = JournaledAddressBookStorage.getLastModifiedTime(
+                source.getAddressBookFilePath());
+        if (!sourceTime.isPresent()) {
+            return false;
+        }
+        Optional<FileTime> targetTime = JournaledAddressBookStorage.getLastModifiedTime(
+                target.getAddressBookFilePath());
+        if (targetTime.isPresent() && targetTime.get().compareTo(sourceTime.get()) >= 0) {
+            return false;
+        }
+        return convert(source, target);
+    }
+
+}
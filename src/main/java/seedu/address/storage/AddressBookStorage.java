@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -42,4 +43,19 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Sets the {@code handler} to notify of failed saves that are only written after
+     * {@link #saveAddressBook(ReadOnlyAddressBook)} has returned.
+     * Storages that write synchronously throw from {@code saveAddressBook} instead, and ignore the handler.
+     */
+    default void setSaveFailureHandler(Consumer<IOException> handler) {}
+
+    /**
+     * Waits at most {@code timeoutMillis} for saves that have not been written yet.
+     * Returns false if some saves are still unwritten when the wait ends.
+     */
+    default boolean flushAddressBook(long timeoutMillis) {
+        return true;
+    }
+
 }
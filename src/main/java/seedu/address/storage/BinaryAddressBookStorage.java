@@ -0,0 +1,302 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Price;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a compact binary snapshot on the hard disk.
+ * <p>
+ * The file starts with a magic number and a format version, followed by a table of the distinct property types and
+ * intentions, and then the persons. A person's property type and intention are written as indexes into the table and
+ * its price as a number of cents, with every number written as a varint, so a person takes little more than the
+ * characters of its name, phone, email and address. The file is read through a memory-mapped {@link FileChannel}.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    public static final String MESSAGE_NOT_BINARY = "Not a PropertyPal binary data file.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary data file version %d is not supported.";
+    public static final String MESSAGE_CORRUPTED = "Binary data file is truncated or corrupted.";
+
+    /** The bytes "PPAB" that every binary data file starts with. */
+    private static final int MAGIC = 0x50504142;
+    private static final int FORMAT_VERSION = 1;
+
+    /** Bits of a price's format byte that hold its number of decimal places. */
+    private static final int PRICE_DECIMALS_MASK = 0b011;
+    /** Bit of a price's format byte that is set if its thousands are separated by commas. */
+    private static final int PRICE_COMMAS_FLAG = 0b100;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!FileUtil.isFileExists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            List<Person> persons = readPersons(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            AddressBook addressBook = new AddressBook();
+            try {
+                addressBook.setPersons(persons);
+            } catch (DuplicatePersonException dpe) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            return Optional.of(addressBook);
+        } catch (IOException ioe) {
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = addressBook.getPersonList();
+        Map<String, Integer> stringTable = new LinkedHashMap<>();
+        for (Person person : persons) {
+            stringTable.putIfAbsent(person.getPropertyType().value, stringTable.size());
+            stringTable.putIfAbsent(person.getIntention().intentionName, stringTable.size());
+        }
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeBytesToFileAtomically(filePath, out -> {
+            DataOutputStream data = new DataOutputStream(out);
+            data.writeInt(MAGIC);
+            writeVarint(data, FORMAT_VERSION);
+            writeVarint(data, stringTable.size());
+            for (String string : stringTable.keySet()) {
+                writeString(data, string);
+            }
+
+            writeVarint(data, persons.size());
+            for (Person person : persons) {
+                writeString(data, person.getName().fullName);
+                writeString(data, person.getPhone().value);
+                writeString(data, person.getEmail().value);
+                writeString(data, person.getAddress().value);
+                writeVarint(data, stringTable.get(person.getPropertyType().value));
+                writePrice(data, person.getPrice());
+                writeVarint(data, stringTable.get(person.getIntention().intentionName));
+            }
+            data.flush();
+        });
+    }
+
+    /**
+     * Reads the persons in a binary data file whose whole content is {@code buffer}.
+     * The persons are validated in the same way as those in a json data file.
+     *
+     * @throws IllegalValueException if the file is not in the binary format, or holds an invalid person.
+     */
+    private static List<Person> readPersons(ByteBuffer buffer) throws IllegalValueException {
+        try {
+            if (buffer.remaining() < Integer.BYTES || buffer.getInt() != MAGIC) {
+                throw new IllegalValueException(MESSAGE_NOT_BINARY);
+            }
+            int version = readVarint(buffer);
+            if (version != FORMAT_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            String[] stringTable = new String[checkCount(readVarint(buffer), buffer)];
+            for (int i = 0; i < stringTable.length; i++) {
+                stringTable[i] = readString(buffer);
+            }
+
+            int personCount = checkCount(readVarint(buffer), buffer);
+            List<Person> persons = new ArrayList<>(personCount);
+            for (int i = 0; i < personCount; i++) {
+                String name = readString(buffer);
+                String phone = readString(buffer);
+                String email = readString(buffer);
+                String address = readString(buffer);
+                String propertyType = readTableString(buffer, stringTable);
+                String price = readPrice(buffer);
+                String intention = readTableString(buffer, stringTable);
+                persons.add(new JsonAdaptedPerson(name, phone, email, address, propertyType, price, intention)
+                        .toModelType());
+            }
+
+            if (buffer.hasRemaining()) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            return persons;
+        } catch (BufferUnderflowException bue) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+    }
+
+    /**
+     * Returns {@code count} if that many entries, each at least a byte long, fit in the rest of {@code buffer}.
+     */
+    private static int checkCount(int count, ByteBuffer buffer) throws IllegalValueException {
+        if (count > buffer.remaining()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        return count;
+    }
+
+    /**
+     * Writes {@code price} as its number of cents, followed by a byte recording how its value was formatted so that
+     * it can be read back exactly as it was written.
+     */
+    private static void writePrice(DataOutputStream data, Price price) throws IOException {
+        int pointIndex = price.value.indexOf('.');
+        int decimals = pointIndex == -1 ? 0 : price.value.length() - pointIndex - 1;
+        boolean hasCommas = price.value.indexOf(',') != -1;
+
+        writeVarint(data, price.getCents());
+        data.writeByte(decimals | (hasCommas ? PRICE_COMMAS_FLAG : 0));
+    }
+
+    /**
+     * Reads a price written by {@link #writePrice(DataOutputStream, Price)} and returns its value.
+     */
+    private static String readPrice(ByteBuffer buffer) throws IllegalValueException {
+        long cents = readVarlong(buffer);
+        int format = buffer.get() & 0xFF;
+        int decimals = format & PRICE_DECIMALS_MASK;
+        if ((format & ~(PRICE_DECIMALS_MASK | PRICE_COMMAS_FLAG)) != 0 || decimals > 2) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+
+        long whole = cents / 100;
+        int fraction = (int) (cents % 100);
+        String wholeValue = (format & PRICE_COMMAS_FLAG) != 0
+                ? String.format(Locale.ROOT, "%,d", whole)
+                : Long.toString(whole);
+        if (decimals == 2) {
+            return wholeValue + "." + String.format(Locale.ROOT, "%02d", fraction);
+        } else if (decimals == 1 && fraction % 10 == 0) {
+            return wholeValue + "." + fraction / 10;
+        } else if (decimals == 0 && fraction == 0) {
+            return wholeValue;
+        }
+        throw new IllegalValueException(MESSAGE_CORRUPTED);
+    }
+
+    private static void writeString(DataOutputStream data, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        writeVarint(data, bytes.length);
+        data.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) throws IllegalValueException {
+        int length = readVarint(buffer);
+        if (length > buffer.remaining()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String readTableString(ByteBuffer buffer, String[] stringTable) throws IllegalValueException {
+        int index = readVarint(buffer);
+        if (index >= stringTable.length) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        return stringTable[index];
+    }
+
+    /**
+     * Writes the non-negative {@code value} seven bits at a time, least significant first, setting the top bit of
+     * every byte but the last.
+     */
+    private static void writeVarint(DataOutputStream data, long value) throws IOException {
+        assert value >= 0 : "Only non-negative numbers are written as varints.";
+        long remaining = value;
+        while (remaining >= 0x80) {
+            data.writeByte((int) (remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        data.writeByte((int) remaining);
+    }
+
+    private static long readVarlong(ByteBuffer buffer) throws IllegalValueException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                if (value < 0) {
+                    throw new IllegalValueException(MESSAGE_CORRUPTED);
+                }
+                return value;
+            }
+        }
+        throw new IllegalValueException(MESSAGE_CORRUPTED);
+    }
+
+    private static int readVarint(ByteBuffer buffer) throws IllegalValueException {
+        long value = readVarlong(buffer);
+        if (value > Integer.MAX_VALUE) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        return (int) value;
+    }
+
+}
@@ -0,0 +1,476 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.PersonChange;
+import seedu.address.model.PersonChangeLog;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a snapshot plus an append-only json journal on the hard disk.
+ * <p>
+ * Saving only appends the persons added, edited or deleted since the previous save to the journal, so a save that
+ * changes nothing does not touch the disk at all. The changes are taken from the {@link PersonChangeLog} of the
+ * address book when it reaches back to the previous save, so a save takes time in proportion to the changes rather
+ * than to the persons; otherwise they are found by comparing the persons with those saved before. Once the journal
+ * holds {@code compactionThreshold} entries, it is folded into the snapshot on a background thread. The snapshot is
+ * read and written by another {@code AddressBookStorage}, which is a {@link JsonAddressBookStorage} unless another one
+ * is given.
+ * <p>
+ * Replaying the journal is idempotent, so a crash between writing a new snapshot and deleting the journal that it
+ * already includes does not corrupt the data.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    public static final String MESSAGE_CORRUPTED_JOURNAL = "Journal file %s is corrupted at line %d.";
+
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final String COMPACTING_JOURNAL_SUFFIX = ".journal.compacting";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private static final ExecutorService compactionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-compaction");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Path filePath;
+    private final int compactionThreshold;
+    private final AddressBookStorage snapshotStorage;
+    private final Object journalLock = new Object();
+
+    /** Persons recorded by the snapshot and journals together, or null if the files have not been read yet. */
+    private Set<Person> persistedPersons;
+    /** The change log of the address book last saved, or null if it is not known. */
+    private PersonChangeLog persistedChangeLog;
+    private int journalSize;
+    private Future<?> pendingCompaction;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that compacts its journal once it holds
+     * {@code compactionThreshold} entries.
+     */
+    public JournaledAddressBookStorage(Path filePath, int compactionThreshold) {
+        this(filePath, compactionThreshold, new JsonAddressBookStorage(filePath));
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that keeps its snapshot in {@code snapshotStorage}, and compacts
+     * its journal once it holds {@code compactionThreshold} entries.
+     */
+    public JournaledAddressBookStorage(Path filePath, int compactionThreshold, AddressBookStorage snapshotStorage) {
+        assert compactionThreshold > 0 : "Compaction threshold should be positive.";
+        requireNonNull(snapshotStorage);
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+        this.snapshotStorage = snapshotStorage;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Reads the snapshot at {@code filePath} and replays any journal kept beside it.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        synchronized (journalLock) {
+            Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+            Path compactingJournalPath = getJournalPath(filePath, COMPACTING_JOURNAL_SUFFIX);
+            Path journalPath = getJournalPath(filePath, JOURNAL_SUFFIX);
+            if (!snapshot.isPresent() && !Files.exists(compactingJournalPath) && !Files.exists(journalPath)) {
+                return Optional.empty();
+            }
+
+            JournalReplayer replayer = new JournalReplayer(
+                    snapshot.map(ReadOnlyAddressBook::getPersonList).orElse(null));
+            int replayedEntries = replayJournal(compactingJournalPath, replayer) + replayJournal(journalPath, replayer);
+
+            List<Person> persons = replayer.getPersons();
+            AddressBook addressBook = new AddressBook();
+            try {
+                addressBook.setPersons(persons);
+            } catch (DuplicatePersonException dpe) {
+                throw new DataLoadingException(new IllegalValueException(
+                        JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+            }
+
+            if (filePath.equals(this.filePath)) {
+                persistedPersons = new HashSet<>(persons);
+                persistedChangeLog = null;
+                journalSize = replayedEntries;
+            }
+            return Optional.of(addressBook);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the journal is written when saving to the file path of this storage, and only if {@code addressBook}
+     * differs from what was last saved. Saving to any other location writes a full snapshot there.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        synchronized (journalLock) {
+            List<Person> currentPersons = addressBook.getPersonList();
+            PersonChangeLog changeLog = addressBook.getChangeLog().orElse(null);
+            if (persistedPersons == null) {
+                // nothing has been read from this location, so start over from a full snapshot
+                writeSnapshot(new ArrayList<>(currentPersons));
+                Files.deleteIfExists(getJournalPath(filePath, COMPACTING_JOURNAL_SUFFIX));
+                Files.deleteIfExists(getJournalPath(filePath, JOURNAL_SUFFIX));
+                persistedPersons = new HashSet<>(currentPersons);
+                persistedChangeLog = changeLog;
+                journalSize = 0;
+                return;
+            }
+
+            Optional<List<PersonChange>> loggedChanges = changeLog == null || persistedChangeLog == null
+                    ? Optional.empty()
+                    : changeLog.getChangesSince(persistedChangeLog);
+            List<JsonAdaptedJournalEntry> changes = loggedChanges.isPresent()
+                    ? toJournalEntries(loggedChanges.get())
+                    : computeChanges(currentPersons);
+            if (changes.isEmpty()) {
+                persistedChangeLog = changeLog;
+                return;
+            }
+
+            appendToJournal(changes);
+            if (loggedChanges.isPresent()) {
+                loggedChanges.get().forEach(this::applyToPersistedPersons);
+            } else {
+                persistedPersons = new HashSet<>(currentPersons);
+            }
+            persistedChangeLog = changeLog;
+            journalSize += changes.size();
+
+            if (journalSize >= compactionThreshold && !isCompacting()) {
+                scheduleCompaction(new ArrayList<>(currentPersons));
+            }
+        }
+    }
+
+    /**
+     * Blocks until the compaction in progress, if any, has completed.
+     */
+    void waitForCompaction() throws InterruptedException, ExecutionException {
+        Future<?> compaction;
+        synchronized (journalLock) {
+            compaction = pendingCompaction;
+        }
+        if (compaction != null) {
+            compaction.get();
+        }
+    }
+
+    private static List<JsonAdaptedJournalEntry> toJournalEntries(List<PersonChange> personChanges) {
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>(personChanges.size());
+        for (PersonChange change : personChanges) {
+            Optional<Person> removedPerson = change.getRemovedPerson();
+            Optional<Person> addedPerson = change.getAddedPerson();
+            if (removedPerson.isPresent() && addedPerson.isPresent()) {
+                entries.add(JsonAdaptedJournalEntry.edit(removedPerson.get(), addedPerson.get()));
+            } else if (removedPerson.isPresent()) {
+                entries.add(JsonAdaptedJournalEntry.delete(removedPerson.get()));
+            } else {
+                entries.add(JsonAdaptedJournalEntry.add(addedPerson.get()));
+            }
+        }
+        return entries;
+    }
+
+    private void applyToPersistedPersons(PersonChange change) {
+        change.getRemovedPerson().ifPresent(persistedPersons::remove);
+        change.getAddedPerson().ifPresent(persistedPersons::add);
+    }
+
+    /**
+     * Returns the journal entries that turn the persisted persons into {@code currentPersons}.
+     * A single replaced person is recorded as an edit so that replaying it keeps the person's position.
+     */
+    private List<JsonAdaptedJournalEntry> computeChanges(List<Person> currentPersons) {
+        Set<Person> currentSet = new HashSet<>(currentPersons);
+        List<Person> removed = new ArrayList<>();
+        for (Person person : persistedPersons) {
+            if (!currentSet.contains(person)) {
+                removed.add(person);
+            }
+        }
+        List<Person> added = new ArrayList<>();
+        for (Person person : currentPersons) {
+            if (!persistedPersons.contains(person)) {
+                added.add(person);
+            }
+        }
+
+        List<JsonAdaptedJournalEntry> changes = new ArrayList<>();
+        if (removed.size() == 1 && added.size() == 1) {
+            changes.add(JsonAdaptedJournalEntry.edit(removed.get(0), added.get(0)));
+            return changes;
+        }
+        removed.forEach(person -> changes.add(JsonAdaptedJournalEntry.delete(person)));
+        added.forEach(person -> changes.add(JsonAdaptedJournalEntry.add(person)));
+        return changes;
+    }
+
+    private void appendToJournal(List<JsonAdaptedJournalEntry> entries) throws IOException {
+        Path journalPath = getJournalPath(filePath, JOURNAL_SUFFIX);
+        FileUtil.createParentDirsOfFile(journalPath);
+        try (BufferedWriter writer = Files.newBufferedWriter(journalPath, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (JsonAdaptedJournalEntry entry : entries) {
+                writer.write(JsonUtil.toCompactJsonString(entry));
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Replays the journal at {@code journalPath}, if it exists, and returns the number of entries replayed.
+     * A malformed last line is treated as an interrupted append and skipped.
+     */
+    private int replayJournal(Path journalPath, JournalReplayer replayer) throws DataLoadingException {
+        if (!Files.exists(journalPath)) {
+            return 0;
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal file " + journalPath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+
+        int replayedEntries = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class);
+            } catch (IOException ioe) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring incomplete last entry of journal file " + journalPath);
+                    break;
+                }
+                logger.warning("Error reading from journal file " + journalPath + ": " + ioe);
+                throw new DataLoadingException(new IllegalValueException(
+                        String.format(MESSAGE_CORRUPTED_JOURNAL, journalPath, i + 1), ioe));
+            }
+
+            try {
+                replayer.apply(entry);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + journalPath + ": " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+            replayedEntries++;
+        }
+        return replayedEntries;
+    }
+
+    private boolean isCompacting() {
+        return pendingCompaction != null && !pendingCompaction.isDone();
+    }
+
+    /**
+     * Moves the current journal aside and writes {@code persons} as the new snapshot on the background thread.
+     * Must be called while holding {@code journalLock}.
+     */
+    private void scheduleCompaction(List<Person> persons) throws IOException {
+        Path journalPath = getJournalPath(filePath, JOURNAL_SUFFIX);
+        Path compactingJournalPath = getJournalPath(filePath, COMPACTING_JOURNAL_SUFFIX);
+
+        // appends made from now on go to a fresh journal that is not covered by the new snapshot
+        if (Files.exists(compactingJournalPath)) {
+            Files.write(compactingJournalPath, Files.readAllBytes(journalPath), StandardOpenOption.APPEND);
+            Files.delete(journalPath);
+        } else {
+            Files.move(journalPath, compactingJournalPath);
+        }
+        journalSize = 0;
+
+        pendingCompaction = compactionExecutor.submit(() -> {
+            try {
+                writeSnapshot(persons);
+                Files.deleteIfExists(compactingJournalPath);
+                logger.fine("Compacted journal of " + filePath + " into a snapshot of " + persons.size()
+                        + " persons");
+            } catch (IOException ioe) {
+                // the journal moved aside is kept, so no data is lost and the next compaction will retry
+                logger.warning("Failed to compact journal of " + filePath + ": " + ioe);
+            }
+        });
+    }
+
+    /**
+     * Atomically replaces the snapshot with {@code persons}.
+     */
+    private void writeSnapshot(List<Person> persons) throws IOException {
+        AddressBook snapshot = new AddressBook();
+        snapshot.setPersons(persons);
+        snapshotStorage.saveAddressBook(snapshot, filePath);
+    }
+
+    /**
+     * Returns the last time that the data at {@code filePath} was changed, which is when its snapshot or any journal
+     * beside it was last modified, or an empty {@code Optional} if there is no data there.
+     */
+    static Optional<FileTime> getLastModifiedTime(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        FileTime lastModifiedTime = null;
+        for (Path path : List.of(filePath, getJournalPath(filePath, COMPACTING_JOURNAL_SUFFIX),
+                getJournalPath(filePath, JOURNAL_SUFFIX))) {
+            if (!Files.exists(path)) {
+                continue;
+            }
+            FileTime modifiedTime = Files.getLastModifiedTime(path);
+            if (lastModifiedTime == null || modifiedTime.compareTo(lastModifiedTime) > 0) {
+                lastModifiedTime = modifiedTime;
+            }
+        }
+        return Optional.ofNullable(lastModifiedTime);
+    }
+
+    private static Path getJournalPath(Path filePath, String suffix) {
+        return filePath.resolveSibling(filePath.getFileName() + suffix);
+    }
+
+    /**
+     * Applies journal entries on top of a snapshot while keeping the order in which persons were added.
+     * Entries that have already been applied are ignored, which makes replaying idempotent.
+     */
+    private static class JournalReplayer {
+        // deleted persons leave a null in their slot so that positions of the others stay valid
+        private final List<Person> persons = new ArrayList<>();
+        private final Map<Person, Integer> positions = new HashMap<>();
+
+        JournalReplayer(List<Person> snapshotPersons) {
+            if (snapshotPersons != null) {
+                snapshotPersons.forEach(this::add);
+            }
+        }
+
+        void apply(JsonAdaptedJournalEntry entry) throws IllegalValueException {
+            switch (entry.getOperation()) {
+            case ADD:
+                add(entry.getPerson());
+                break;
+            case DELETE:
+                delete(entry.getTarget());
+                break;
+            case EDIT:
+                edit(entry.getTarget(), entry.getPerson());
+                break;
+            default:
+                throw new IllegalStateException("Unexpected value: " + entry.getOperation());
+            }
+        }
+
+        private void add(Person person) {
+            if (!positions.containsKey(person)) {
+                positions.put(person, persons.size());
+                persons.add(person);
+            }
+        }
+
+        private void delete(Person target) {
+            Integer position = positions.remove(target);
+            if (position != null) {
+                persons.set(position, null);
+            }
+        }
+
+        private void edit(Person target, Person editedPerson) {
+            Integer position = positions.remove(target);
+            if (position == null) {
+                add(editedPerson);
+            } else if (positions.containsKey(editedPerson)) {
+                persons.set(position, null);
+            } else {
+                persons.set(position, editedPerson);
+                positions.put(editedPerson, position);
+            }
+        }
+
+        List<Person> getPersons() {
+            List<Person> result = new ArrayList<>(positions.size());
+            for (Person person : persons) {
+                if (person != null) {
+                    result.add(person);
+                }
+            }
+            return result;
+        }
+    }
+
+}
@@ -0,0 +1,97 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a single change recorded in the address book journal.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+
+    /**
+     * Kinds of changes that can be recorded in the journal.
+     */
+    enum Operation {
+        ADD, EDIT, DELETE
+    }
+
+    private final Operation operation;
+    private final JsonAdaptedPerson target;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("operation") Operation operation,
+                                   @JsonProperty("target") JsonAdaptedPerson target,
+                                   @JsonProperty("person") JsonAdaptedPerson person) {
+        this.operation = operation;
+        this.target = target;
+        this.person = person;
+    }
+
+    /**
+     * Creates an entry recording that {@code person} was added.
+     */
+    public static JsonAdaptedJournalEntry add(Person person) {
+        return new JsonAdaptedJournalEntry(Operation.ADD, null, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Creates an entry recording that {@code target} was replaced by {@code editedPerson}.
+     */
+    public static JsonAdaptedJournalEntry edit(Person target, Person editedPerson) {
+        return new JsonAdaptedJournalEntry(Operation.EDIT, new JsonAdaptedPerson(target),
+                new JsonAdaptedPerson(editedPerson));
+    }
+
+    /**
+     * Creates an entry recording that {@code target} was deleted.
+     */
+    public static JsonAdaptedJournalEntry delete(Person target) {
+        return new JsonAdaptedJournalEntry(Operation.DELETE, new JsonAdaptedPerson(target), null);
+    }
+
+    /**
+     * Returns the kind of change recorded by this entry.
+     *
+     * @throws IllegalValueException if the operation is missing.
+     */
+    public Operation getOperation() throws IllegalValueException {
+        if (operation == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "operation"));
+        }
+        return operation;
+    }
+
+    /**
+     * Returns the model's {@code Person} that was edited or deleted.
+     *
+     * @throws IllegalValueException if the target is missing or violates any data constraints.
+     */
+    public Person getTarget() throws IllegalValueException {
+        if (target == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "target"));
+        }
+        return target.toModelType();
+    }
+
+    /**
+     * Returns the model's {@code Person} that was added, or the result of an edit.
+     *
+     * @throws IllegalValueException if the person is missing or violates any data constraints.
+     */
+    public Person getPerson() throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "person"));
+        }
+        return person.toModelType();
+    }
+
+}
@@ -117,7 +117,7 @@ class JsonAdaptedPerson {
         if (!Intention.isValidIntentionName(effectiveIntention)) {
             throw new IllegalValueException(Intention.MESSAGE_CONSTRAINTS);
         }
-        final Intention modelIntention = new Intention(effectiveIntention);
+        final Intention modelIntention = Intention.of(effectiveIntention);
 
         if (propertyType == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -126,7 +126,7 @@ class JsonAdaptedPerson {
         if (!PropertyType.isValidPropertyType(propertyType)) {
             throw new IllegalValueException(PropertyType.MESSAGE_CONSTRAINTS);
         }
-        final PropertyType modelPropertyType = new PropertyType(propertyType);
+        final PropertyType modelPropertyType = PropertyType.of(propertyType);
 
         if (price == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Price.class.getSimpleName()));
@@ -134,7 +134,7 @@ class JsonAdaptedPerson {
         if (!Price.isValidPrice(price)) {
             throw new IllegalValueException(Price.MESSAGE_CONSTRAINTS);
         }
-        final Price modelPrice = new Price(price);
+        final Price modelPrice = Price.of(price);
 
         return new Person(
                 modelName,
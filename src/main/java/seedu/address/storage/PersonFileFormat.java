@@ -0,0 +1,48 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The file formats that persons can be imported from and exported to, one person per line.
+ */
+public enum PersonFileFormat {
+    /** Comma-separated values, with a header line naming the columns. */
+    CSV(".csv"),
+    /** JSON Lines, with one JSON object in the format of the data file per line. */
+    JSONL(".jsonl");
+
+    public static final String MESSAGE_CONSTRAINTS = "The file name should end with .csv or .jsonl";
+
+    /** The columns of a CSV file, which are also the property names of a JSON Lines object. */
+    public static final List<String> COLUMNS =
+            List.of("name", "phone", "email", "address", "propertyType", "price", "intention");
+
+    private final String extension;
+
+    PersonFileFormat(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * Returns the format of the file at {@code filePath}, judging by its extension.
+     */
+    public static Optional<PersonFileFormat> fromPath(Path filePath) {
+        requireNonNull(filePath);
+        Path fileName = filePath.getFileName();
+        if (fileName == null) {
+            return Optional.empty();
+        }
+
+        String lowerCaseFileName = fileName.toString().toLowerCase();
+        for (PersonFileFormat format : values()) {
+            if (lowerCaseFileName.endsWith(format.extension)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+}
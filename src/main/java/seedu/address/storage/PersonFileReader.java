@@ -0,0 +1,341 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.LineNumberReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads persons from a file in one of the {@link PersonFileFormat}s, such as one exported from another application.
+ * <p>
+ * The file is read one line at a time, so only the persons read from it and the lines of one batch are kept in
+ * memory. Once {@link #BATCH_SIZE} records are read, they are parsed and validated in parallel on the common
+ * {@link java.util.concurrent.ForkJoinPool}, and then merged back in the order of their lines. Lines that do not
+ * describe a valid person are reported with their line number instead of failing the whole file. A CSV record whose
+ * quoted field goes on over several lines is reported in the same way, and the lines it spans are skipped rather than
+ * read as records of their own.
+ */
+public class PersonFileReader {
+
+    public static final String MESSAGE_LINE_ERROR = "Line %1$d: %2$s";
+    public static final String MESSAGE_MISSING_HEADER = "The first line of a CSV file should name its columns, "
+            + "which can be any of: " + String.join(", ", PersonFileFormat.COLUMNS);
+    public static final String MESSAGE_INVALID_JSON = "Not a valid JSON object";
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "Expected %1$d fields but found %2$d";
+    public static final String MESSAGE_MULTI_LINE_FIELD = "A quoted field goes on over several lines (up to line "
+            + "%1$d), but every record must fit on one line";
+
+    /** Number of records that are read from the file before they are parsed and validated together. */
+    static final int BATCH_SIZE = 1024;
+
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+
+    /**
+     * Returns the persons in the file at {@code filePath}, together with the errors of the lines that could not be
+     * read as persons. Blank lines are ignored.
+     *
+     * @throws DataLoadingException if the file cannot be read, its format is not known, or it is a CSV file
+     *     without a header line.
+     */
+    public static Result readPersons(Path filePath) throws DataLoadingException {
+        return readPersons(filePath, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the persons in the file at {@code filePath}, together with the errors of the first {@code maxErrors}
+     * lines that could not be read as persons. Blank lines are ignored.
+     *
+     * @throws DataLoadingException if the file cannot be read, its format is not known, or it is a CSV file
+     *     without a header line.
+     */
+    public static Result readPersons(Path filePath, int maxErrors) throws DataLoadingException {
+        requireNonNull(filePath);
+        PersonFileFormat format = PersonFileFormat.fromPath(filePath).orElseThrow(() ->
+                new DataLoadingException(new IllegalValueException(PersonFileFormat.MESSAGE_CONSTRAINTS)));
+
+        try (LineNumberReader reader =
+                new LineNumberReader(Files.newBufferedReader(filePath, StandardCharsets.UTF_8))) {
+            ResultBuilder result = new ResultBuilder(maxErrors);
+            if (format == PersonFileFormat.JSONL) {
+                readJsonLines(reader, result);
+            } else {
+                readCsvLines(reader, result);
+            }
+            return result.build();
+        } catch (IOException ioe) {
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    private static void readJsonLines(LineNumberReader reader, ResultBuilder result) throws IOException {
+        String line;
+        while ((line = readLine(reader)) != null) {
+            if (!line.isBlank()) {
+                result.add(PersonFileReader::parseJsonLine, line, reader.getLineNumber());
+            }
+        }
+    }
+
+    private static void readCsvLines(LineNumberReader reader, ResultBuilder result)
+            throws IOException, DataLoadingException {
+        String line = readLine(reader);
+        while (line != null && line.isBlank()) {
+            line = readLine(reader);
+        }
+        if (line == null) {
+            return;
+        }
+        int[] columnFields = readCsvHeader(line);
+
+        while ((line = readLine(reader)) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+
+            int lineNumber = reader.getLineNumber();
+            if (!CsvUtil.endsInQuotedField(line, false)) {
+                result.add(csvLine -> parseCsvLine(csvLine, columnFields), line, lineNumber);
+            } else if (skipQuotedFieldLines(reader)) {
+                result.addError(lineNumber, String.format(MESSAGE_MULTI_LINE_FIELD, reader.getLineNumber()));
+            } else {
+                result.addError(lineNumber, CsvUtil.MESSAGE_UNTERMINATED_QUOTE);
+            }
+        }
+    }
+
+    /**
+     * Skips the lines that continue a quoted field from the line just read, up to and including the line that closes
+     * it. Returns false if the file ends before the field is closed.
+     */
+    private static boolean skipQuotedFieldLines(LineNumberReader reader) throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (!CsvUtil.endsInQuotedField(line, true)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the next line of {@code reader} without the byte order mark that may start a file, or null at the end
+     * of the file.
+     */
+    private static String readLine(LineNumberReader reader) throws IOException {
+        String line = reader.readLine();
+        if (line != null && reader.getLineNumber() == 1 && line.startsWith(BYTE_ORDER_MARK)) {
+            return line.substring(BYTE_ORDER_MARK.length());
+        }
+        return line;
+    }
+
+    private static JsonAdaptedPerson parseJsonLine(String line) throws IllegalValueException {
+        JsonAdaptedPerson person;
+        try {
+            person = JsonUtil.fromJsonString(line, JsonAdaptedPerson.class);
+        } catch (IOException ioe) {
+            throw new IllegalValueException(MESSAGE_INVALID_JSON, ioe);
+        }
+        if (person == null) {
+            throw new IllegalValueException(MESSAGE_INVALID_JSON);
+        }
+        return person;
+    }
+
+    /**
+     * Returns, for each column of the CSV header {@code line}, the index of the person field in
+     * {@link PersonFileFormat#COLUMNS} that it holds, or -1 if it is not a person field.
+     */
+    private static int[] readCsvHeader(String line) throws DataLoadingException {
+        List<String> headers;
+        try {
+            headers = CsvUtil.parseLine(line);
+        } catch (IllegalValueException ive) {
+            throw new DataLoadingException(ive);
+        }
+
+        int[] columnFields = new int[headers.size()];
+        boolean hasKnownColumn = false;
+        for (int column = 0; column < headers.size(); column++) {
+            columnFields[column] = indexOfField(headers.get(column));
+            hasKnownColumn |= columnFields[column] != -1;
+        }
+        if (!hasKnownColumn) {
+            throw new DataLoadingException(new IllegalValueException(MESSAGE_MISSING_HEADER));
+        }
+        return columnFields;
+    }
+
+    /**
+     * Returns the index of the field named {@code header} in {@link PersonFileFormat#COLUMNS}, ignoring case, spaces
+     * and punctuation, or -1 if there is none.
+     */
+    private static int indexOfField(String header) {
+        String normalizedHeader = header.replaceAll("[^A-Za-z]", "");
+        for (int i = 0; i < PersonFileFormat.COLUMNS.size(); i++) {
+            if (PersonFileFormat.COLUMNS.get(i).equalsIgnoreCase(normalizedHeader)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static JsonAdaptedPerson parseCsvLine(String line, int[] columnFields) throws IllegalValueException {
+        List<String> values = CsvUtil.parseLine(line);
+        if (values.size() != columnFields.length) {
+            throw new IllegalValueException(String.format(MESSAGE_WRONG_FIELD_COUNT, columnFields.length,
+                    values.size()));
+        }
+
+        String[] fields = new String[PersonFileFormat.COLUMNS.size()];
+        for (int column = 0; column < columnFields.length; column++) {
+            if (columnFields[column] != -1) {
+                fields[columnFields[column]] = values.get(column).trim();
+            }
+        }
+        return new JsonAdaptedPerson(fields[0], fields[1], fields[2], fields[3], fields[4], fields[5], fields[6]);
+    }
+
+    /**
+     * Parses one line of a file into a person that still has to be validated.
+     */
+    @FunctionalInterface
+    private interface LineParser {
+        JsonAdaptedPerson parse(String line) throws IllegalValueException;
+    }
+
+    /**
+     * A record of a file that is still to be read as a person, or the error that it was already found to have.
+     */
+    private static class PendingRecord {
+        private final int lineNumber;
+        private final String line;
+        private final LineParser parser;
+        private Person person;
+        private String error;
+
+        PendingRecord(int lineNumber, String line, LineParser parser, String error) {
+            this.lineNumber = lineNumber;
+            this.line = line;
+            this.parser = parser;
+            this.error = error;
+        }
+
+        /**
+         * Reads the person of the record, or keeps its error if it is not a valid person.
+         */
+        void read() {
+            if (parser == null) {
+                return;
+            }
+            try {
+                person = parser.parse(line).toModelType();
+            } catch (IllegalValueException ive) {
+                error = ive.getMessage();
+            }
+        }
+    }
+
+    /**
+     * Collects the persons read from a file and the errors of the lines that could not be read.
+     */
+    private static class ResultBuilder {
+        private final List<Person> persons = new ArrayList<>();
+        private final List<String> errors = new ArrayList<>();
+        private final List<PendingRecord> batch = new ArrayList<>(BATCH_SIZE);
+        private final int maxErrors;
+        private int errorCount;
+
+        ResultBuilder(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        /**
+         * Adds the person that {@code parser} reads from {@code line}, or its error if it is not a valid person.
+         */
+        void add(LineParser parser, String line, int lineNumber) {
+            addToBatch(new PendingRecord(lineNumber, line, parser, null));
+        }
+
+        void addError(int lineNumber, String message) {
+            addToBatch(new PendingRecord(lineNumber, null, null, message));
+        }
+
+        private void addToBatch(PendingRecord record) {
+            batch.add(record);
+            if (batch.size() == BATCH_SIZE) {
+                readBatch();
+            }
+        }
+
+        private void readBatch() {
+            // the records are read in parallel, but the results are only updated from this thread, in line order
+            batch.parallelStream().forEach(PendingRecord::read);
+            for (PendingRecord record : batch) {
+                if (record.person != null) {
+                    persons.add(record.person);
+                } else {
+                    if (errorCount < maxErrors) {
+                        errors.add(String.format(MESSAGE_LINE_ERROR, record.lineNumber, record.error));
+                    }
+                    errorCount++;
+                }
+            }
+            batch.clear();
+        }
+
+        Result build() {
+            readBatch();
+            return new Result(persons, errors, errorCount);
+        }
+    }
+
+    /**
+     * The persons read from a file and the errors of the lines that could not be read.
+     */
+    public static class Result {
+        private final List<Person> persons;
+        private final List<String> errors;
+        private final int errorCount;
+
+        Result(List<Person> persons, List<String> errors, int errorCount) {
+            this.persons = Collections.unmodifiableList(persons);
+            this.errors = Collections.unmodifiableList(errors);
+            this.errorCount = errorCount;
+        }
+
+        /**
+         * Returns the valid persons, in the order they appear in the file.
+         */
+        public List<Person> getPersons() {
+            return persons;
+        }
+
+        /**
+         * Returns a message for each line that could not be read as a person, up to the maximum number of errors
+         * that was asked for, in the order they appear in the file.
+         */
+        public List<String> getErrors() {
+            return errors;
+        }
+
+        /**
+         * Returns the number of lines that could not be read as persons, including those not in {@link #getErrors()}.
+         */
+        public int getErrorCount() {
+            return errorCount;
+        }
+    }
+}
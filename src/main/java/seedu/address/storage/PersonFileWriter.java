@@ -0,0 +1,73 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes persons to a file in one of the {@link PersonFileFormat}s, in a form {@link PersonFileReader} can read.
+ * <p>
+ * Persons are written one line at a time through a buffered writer, so the memory used does not grow with the
+ * number of persons written.
+ */
+public class PersonFileWriter {
+
+    private static final String LINE_SEPARATOR = "\n";
+    private static final String CSV_SEPARATOR = ",";
+
+    /**
+     * Writes {@code persons} to the file at {@code filePath}, in the format given by its extension.
+     * Missing parent directories are created, and an existing file is only replaced once all persons are written.
+     */
+    public static void writePersons(Iterable<Person> persons, Path filePath) throws IOException {
+        requireNonNull(persons);
+        requireNonNull(filePath);
+        Optional<PersonFileFormat> format = PersonFileFormat.fromPath(filePath);
+        checkArgument(format.isPresent(), PersonFileFormat.MESSAGE_CONSTRAINTS);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        if (format.get() == PersonFileFormat.CSV) {
+            FileUtil.writeToFileAtomically(filePath, writer -> writeCsv(persons, writer));
+        } else {
+            FileUtil.writeToFileAtomically(filePath, writer -> writeJsonLines(persons, writer));
+        }
+    }
+
+    private static void writeCsv(Iterable<Person> persons, Writer writer) throws IOException {
+        writer.write(String.join(CSV_SEPARATOR, PersonFileFormat.COLUMNS));
+        writer.write(LINE_SEPARATOR);
+        for (Person person : persons) {
+            // in the order of PersonFileFormat.COLUMNS
+            writer.write(CsvUtil.toField(person.getName().fullName));
+            writer.write(CSV_SEPARATOR);
+            writer.write(CsvUtil.toField(person.getPhone().value));
+            writer.write(CSV_SEPARATOR);
+            writer.write(CsvUtil.toField(person.getEmail().value));
+            writer.write(CSV_SEPARATOR);
+            writer.write(CsvUtil.toField(person.getAddress().value));
+            writer.write(CSV_SEPARATOR);
+            writer.write(CsvUtil.toField(person.getPropertyType().value));
+            writer.write(CSV_SEPARATOR);
+            writer.write(CsvUtil.toField(person.getPrice().value));
+            writer.write(CSV_SEPARATOR);
+            writer.write(CsvUtil.toField(person.getIntention().intentionName));
+            writer.write(LINE_SEPARATOR);
+        }
+    }
+
+    private static void writeJsonLines(Iterable<Person> persons, Writer writer) throws IOException {
+        for (Person person : persons) {
+            writer.write(JsonUtil.toCompactJsonString(new JsonAdaptedPerson(person)));
+            writer.write(LINE_SEPARATOR);
+        }
+    }
+}
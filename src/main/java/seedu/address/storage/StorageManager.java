@@ -3,10 +3,13 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -28,6 +31,44 @@ public class StorageManager implements Storage {
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Returns the {@code AddressBookStorage} for the data file and format in {@code userPrefs}.
+     * The json data file and the binary data file beside it are kept in step: if the data file of the other format
+     * was changed after that of the chosen format, as when switching formats, its data are converted to the chosen
+     * format first. If the binary format is chosen but the data cannot be converted, the json data file is used
+     * instead.
+     */
+    public static AddressBookStorage createAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path filePath = userPrefs.getAddressBookFilePath();
+        Path binaryFilePath = AddressBookFormatConverter.getBinaryFilePath(filePath);
+        JournaledAddressBookStorage jsonStorage = new JournaledAddressBookStorage(filePath);
+        JournaledAddressBookStorage binaryStorage = new JournaledAddressBookStorage(binaryFilePath,
+                JournaledAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD, new BinaryAddressBookStorage(binaryFilePath));
+
+        if (userPrefs.getAddressBookFormat() == AddressBookFormat.BINARY) {
+            try {
+                if (AddressBookFormatConverter.convertIfNewer(jsonStorage, binaryStorage)) {
+                    logger.info("Converted data file " + filePath + " to binary data file " + binaryFilePath);
+                }
+                return new AsyncAddressBookStorage(binaryStorage);
+            } catch (DataLoadingException | IOException e) {
+                logger.warning("Data file " + filePath + " could not be converted to binary data file "
+                        + binaryFilePath + ", so it will be used as it is: " + StringUtil.getDetails(e));
+            }
+            return new AsyncAddressBookStorage(jsonStorage);
+        }
+
+        try {
+            if (AddressBookFormatConverter.convertIfNewer(binaryStorage, jsonStorage)) {
+                logger.info("Converted binary data file " + binaryFilePath + " to data file " + filePath);
+            }
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Binary data file " + binaryFilePath + " could not be converted to data file " + filePath
+                    + ", so the data file will be used as it is: " + StringUtil.getDetails(e));
+        }
+        return new AsyncAddressBookStorage(jsonStorage);
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -75,4 +116,15 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> handler) {
+        addressBookStorage.setSaveFailureHandler(handler);
+    }
+
+    @Override
+    public boolean flushAddressBook(long timeoutMillis) {
+        logger.fine("Waiting for pending writes to data file: " + getAddressBookFilePath());
+        return addressBookStorage.flushAddressBook(timeoutMillis);
+    }
+
 }
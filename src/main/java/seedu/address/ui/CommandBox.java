@@ -1,22 +1,29 @@
 package seedu.address.ui;
 
+import javafx.animation.PauseTransition;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * The command being typed is previewed once typing pauses, so that the matches of a {@code find} command are shown
+ * before it is entered.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
+    private static final double PREVIEW_DELAY_MILLIS = 150;
 
     private final CommandExecutor commandExecutor;
+    private final CommandPreviewer commandPreviewer;
+    private final PauseTransition previewDelay = new PauseTransition(Duration.millis(PREVIEW_DELAY_MILLIS));
 
     @FXML
     private TextField commandTextField;
@@ -25,10 +32,24 @@ public class CommandBox extends UiPart<Region> {
      * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
      */
     public CommandBox(CommandExecutor commandExecutor) {
+        this(commandExecutor, commandText -> { });
+    }
+
+    /**
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, which previews the command being typed with
+     * {@code commandPreviewer}.
+     */
+    public CommandBox(CommandExecutor commandExecutor, CommandPreviewer commandPreviewer) {
         super(FXML);
         this.commandExecutor = commandExecutor;
-        // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        this.commandPreviewer = commandPreviewer;
+        // calls #setStyleToDefault() whenever there is a change to the text of the command box, and restarts the
+        // preview delay, so that a command is only previewed once typing pauses.
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> {
+            setStyleToDefault();
+            previewDelay.setOnFinished(event -> this.commandPreviewer.preview(newText));
+            previewDelay.playFromStart();
+        });
     }
 
     /**
@@ -41,6 +62,7 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
+        previewDelay.stop();
         try {
             commandExecutor.execute(commandText);
             commandTextField.setText("");
@@ -82,4 +104,17 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that can preview commands as they are typed.
+     */
+    @FunctionalInterface
+    public interface CommandPreviewer {
+        /**
+         * Previews the command being typed.
+         *
+         * @see seedu.address.logic.Logic#previewCommand(String)
+         */
+        void preview(String commandText);
+    }
+
 }
@@ -1,7 +1,10 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -24,6 +27,9 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class MainWindow extends UiPart<Stage> {
 
+    static final String MESSAGE_DEFERRED_CANCELLED = "Cancelled before it finished.";
+    static final String MESSAGE_DEFERRED_FAILED = "Failed before it finished: %1$s";
+
     private static final String FXML = "MainWindow.fxml";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
@@ -36,6 +42,9 @@ public class MainWindow extends UiPart<Stage> {
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
 
+    /** Number of commands entered so far, so that deferred feedback can tell whether a later command was entered. */
+    private long commandCount;
+
     @FXML
     private StackPane commandBoxPlaceholder;
 
@@ -119,11 +128,12 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::previewCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -188,10 +198,14 @@ public class MainWindow extends UiPart<Stage> {
      * @see seedu.address.logic.Logic#execute(String)
      */
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
+        long commandNumber = ++commandCount;
         try {
             CommandResult commandResult = logic.execute(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            commandResult.getDeferredFeedback().ifPresent(deferredFeedback ->
+                    deferredFeedback.whenComplete((feedback, error) ->
+                            Platform.runLater(() -> showDeferredFeedback(commandNumber, feedback, error))));
 
             if (commandResult.isShowHelp()) {
                 handleHelp();
@@ -208,4 +222,23 @@ public class MainWindow extends UiPart<Stage> {
             throw e;
         }
     }
+
+    /**
+     * Shows the deferred feedback of the {@code commandNumber}-th command, or {@code error} if the work it left
+     * running failed or was cancelled.
+     */
+    private void showDeferredFeedback(long commandNumber, String feedback, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause == null) {
+            resultDisplay.setFeedbackToUser(feedback);
+        } else if (cause instanceof CancellationException) {
+            // work is cancelled by a later command, whose own feedback should stay displayed
+            if (commandNumber == commandCount) {
+                resultDisplay.setFeedbackToUser(MESSAGE_DEFERRED_CANCELLED);
+            }
+        } else {
+            logger.warning("Work left running by a command failed: " + cause);
+            resultDisplay.setFeedbackToUser(String.format(MESSAGE_DEFERRED_FAILED, cause.getMessage()));
+        }
+    }
 }
@@ -0,0 +1,81 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class CsvUtilTest {
+
+    @Test
+    public void parseLine_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CsvUtil.parseLine(null));
+    }
+
+    @Test
+    public void parseLine_unquotedFields_splitsOnCommas() throws Exception {
+        assertEquals(Collections.singletonList(""), CsvUtil.parseLine(""));
+        assertEquals(Arrays.asList("a", "", " b ", ""), CsvUtil.parseLine("a,, b ,"));
+    }
+
+    @Test
+    public void parseLine_quotedFields_keepsCommasAndQuotes() throws Exception {
+        assertEquals(Arrays.asList("John Doe", "311, Clementi Ave 2", "say \"hi\"", ""),
+                CsvUtil.parseLine("John Doe,\"311, Clementi Ave 2\",\"say \"\"hi\"\"\",\"\""));
+    }
+
+    @Test
+    public void toField_plainValue_unchanged() {
+        assertEquals("John Doe", CsvUtil.toField("John Doe"));
+        assertEquals("", CsvUtil.toField(""));
+    }
+
+    @Test
+    public void toField_specialValues_quotedAndReadBack() throws Exception {
+        String[] values = {"311, Clementi Ave 2", "say \"hi\"", " padded "};
+        assertEquals("\"311, Clementi Ave 2\"", CsvUtil.toField(values[0]));
+        for (String value : values) {
+            assertEquals(Collections.singletonList(value), CsvUtil.parseLine(CsvUtil.toField(value)));
+        }
+    }
+
+    @Test
+    public void parseLine_unterminatedQuote_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, CsvUtil.MESSAGE_UNTERMINATED_QUOTE, () ->
+                CsvUtil.parseLine("a,\"b, c"));
+    }
+
+    @Test
+    public void parseLine_charactersAfterQuote_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, CsvUtil.MESSAGE_CHARACTERS_AFTER_QUOTE, () ->
+                CsvUtil.parseLine("\"a\"b,c"));
+    }
+
+    @Test
+    public void endsInQuotedField_completeLine_returnsFalse() {
+        assertFalse(CsvUtil.endsInQuotedField("a,\"b, c\",d", false));
+        assertFalse(CsvUtil.endsInQuotedField("a,\"say \"\"hi\"\"\"", false));
+        // a quote inside an unquoted field is an ordinary character
+        assertFalse(CsvUtil.endsInQuotedField("5'10\",b", false));
+    }
+
+    @Test
+    public void endsInQuotedField_openQuotedField_returnsTrue() {
+        assertTrue(CsvUtil.endsInQuotedField("a,\"b, c", false));
+        assertTrue(CsvUtil.endsInQuotedField("a,\"b \"\"", false));
+    }
+
+    @Test
+    public void endsInQuotedField_continuedQuotedField_returnsWhetherStillOpen() {
+        assertTrue(CsvUtil.endsInQuotedField("still, open", true));
+        assertFalse(CsvUtil.endsInQuotedField("closed\",d", true));
+        assertTrue(CsvUtil.endsInQuotedField("closed\",\"reopened", true));
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class InstancePoolTest {
+
+    @Test
+    public void get_sameKey_createsValueOnce() {
+        AtomicInteger createdCount = new AtomicInteger();
+        InstancePool<StringBuilder> pool = new InstancePool<>(key -> {
+            createdCount.incrementAndGet();
+            return new StringBuilder(key);
+        }, 10);
+
+        StringBuilder value = pool.get("a");
+        assertSame(value, pool.get("a"));
+        assertEquals(1, createdCount.get());
+        assertNotSame(value, pool.get("b"));
+    }
+
+    @Test
+    public void get_poolFull_createsUnpooledValues() {
+        InstancePool<StringBuilder> pool = new InstancePool<>(StringBuilder::new, 1);
+        StringBuilder pooledValue = pool.get("a");
+
+        assertNotSame(pool.get("b"), pool.get("b"));
+        assertSame(pooledValue, pool.get("a"));
+    }
+
+    @Test
+    public void get_factoryThrows_nothingPooled() {
+        InstancePool<Integer> pool = new InstancePool<>(Integer::valueOf, 1);
+        assertThrows(NumberFormatException.class, () -> pool.get("x"));
+        assertSame(pool.get("1000"), pool.get("1000"));
+    }
+
+    @Test
+    public void get_null_throwsNullPointerException() {
+        InstancePool<Integer> pool = new InstancePool<>(Integer::valueOf, 1);
+        assertThrows(NullPointerException.class, () -> pool.get(null));
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -123,6 +125,32 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for foldCase --------------------------------------
+
+    @Test
+    public void foldCase_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.foldCase(null));
+    }
+
+    @Test
+    public void foldCase_alreadyFolded_returnsSameInstance() {
+        String folded = "alice pauline, 123 jurong west";
+        assertSame(folded, StringUtil.foldCase(folded));
+    }
+
+    @Test
+    public void foldCase_validInputs_ordersLikeCompareToIgnoreCase() {
+        assertEquals("alice pauline", StringUtil.foldCase("Alice PAULINE"));
+
+        String[] values = {"alice", "Alice", "BENSON", "_under", "[bracket", "zed", "\u00c9clair", "\u00e9clair", ""};
+        for (String first : values) {
+            for (String second : values) {
+                assertEquals(Integer.signum(first.compareToIgnoreCase(second)),
+                        Integer.signum(StringUtil.foldCase(first).compareTo(StringUtil.foldCase(second))));
+            }
+        }
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -1,7 +1,10 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
@@ -12,10 +15,18 @@ import static seedu.address.logic.commands.CommandTestUtil.PRICE_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PROPERTY_TYPE_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,6 +34,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -31,6 +43,7 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
@@ -85,6 +98,136 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_firstCommand_savesLoadedAddressBook() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("addressBook.json");
+        assertFalse(Files.exists(addressBookPath));
+
+        // a loaded sample or empty book is written even if the first command does not change it
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+        assertTrue(Files.exists(addressBookPath));
+    }
+
+    @Test
+    public void execute_readOnlyCommand_doesNotSaveAddressBook() throws Exception {
+        AtomicInteger saveCount = new AtomicInteger();
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
+                            throws IOException {
+                        saveCount.incrementAndGet();
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        // the first command saves the loaded address book once
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+        assertEquals(1, saveCount.get());
+
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+        assertEquals(1, saveCount.get());
+    }
+
+    @Test
+    public void previewCommand_findCommand_filtersList() {
+        model.addPerson(AMY);
+        model.addPerson(BOB);
+
+        logic.previewCommand(FindCommand.COMMAND_WORD + " n/amy");
+        assertEquals(Collections.singletonList(AMY), logic.getFilteredPersonList());
+    }
+
+    @Test
+    public void previewCommand_notValidFindCommand_restoresFilter() throws Exception {
+        model.addPerson(AMY);
+        model.addPerson(BOB);
+        logic.execute(FindCommand.COMMAND_WORD + " n/amy n/bob");
+
+        logic.previewCommand(FindCommand.COMMAND_WORD + " n/bob");
+        assertEquals(Collections.singletonList(BOB), logic.getFilteredPersonList());
+        logic.previewCommand(FindCommand.COMMAND_WORD + " x/bob");
+        assertEquals(Arrays.asList(AMY, BOB), logic.getFilteredPersonList());
+
+        logic.previewCommand(FindCommand.COMMAND_WORD + " n/amy");
+        logic.previewCommand("delete 1");
+        assertEquals(Arrays.asList(AMY, BOB), logic.getFilteredPersonList());
+        assertEquals(2, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void execute_deleteAfterClearedPreview_deletesFromCommittedList() throws Exception {
+        model.addPerson(AMY);
+        model.addPerson(BOB);
+
+        logic.previewCommand(FindCommand.COMMAND_WORD + " n/bob");
+        logic.previewCommand("");
+        logic.execute("delete 1");
+
+        assertEquals(Collections.singletonList(BOB), model.getAddressBook().getPersonList());
+        assertEquals(Collections.singletonList(BOB), logic.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_deleteDuringPreview_deletesFromCommittedList() throws Exception {
+        model.addPerson(AMY);
+        model.addPerson(BOB);
+
+        // the text is replaced and entered before the preview of the new text
+        logic.previewCommand(FindCommand.COMMAND_WORD + " n/bob");
+        logic.execute("delete 1");
+
+        assertEquals(Collections.singletonList(BOB), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void execute_previewedFindCommand_keepsFilter() throws Exception {
+        model.addPerson(AMY);
+        model.addPerson(BOB);
+
+        logic.previewCommand(FindCommand.COMMAND_WORD + " n/bo");
+        logic.previewCommand(FindCommand.COMMAND_WORD + " n/bob");
+        logic.execute(FindCommand.COMMAND_WORD + " n/bob");
+        logic.previewCommand("");
+
+        assertEquals(Collections.singletonList(BOB), logic.getFilteredPersonList());
+    }
+
+    @Test
+    public void previewCommand_duringBackgroundFind_doesNotCancelIt() throws Exception {
+        CompletableFuture<Integer> committedMatchCount = new CompletableFuture<>();
+        List<PersonContainsKeywordsPredicate> searches = new ArrayList<>();
+        model = new ModelManager() {
+            @Override
+            public CompletableFuture<Integer> findPersons(PersonContainsKeywordsPredicate predicate) {
+                searches.add(predicate);
+                // the first search is the executed one, which is left running in the background
+                return searches.size() == 1 ? committedMatchCount : super.findPersons(predicate);
+            }
+        };
+        model.addPerson(AMY);
+        model.addPerson(BOB);
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage, Runnable::run);
+
+        CommandResult result = logic.execute(FindCommand.COMMAND_WORD + " n/amy");
+        logic.previewCommand(FindCommand.COMMAND_WORD + " n/b");
+        logic.previewCommand(FindCommand.COMMAND_WORD + " n/bob");
+        assertEquals(1, searches.size());
+        assertFalse(committedMatchCount.isDone());
+
+        committedMatchCount.complete(1);
+        assertEquals(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1),
+                result.getDeferredFeedback().get().toCompletableFuture().join());
+        logic.previewCommand(FindCommand.COMMAND_WORD + " n/bob");
+        assertEquals(2, searches.size());
+        assertEquals(Collections.singletonList(BOB), logic.getFilteredPersonList());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -5,6 +5,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
 import org.junit.jupiter.api.Test;
 
 public class CommandResultTest {
@@ -33,6 +36,20 @@ public class CommandResultTest {
 
         // different exit value -> returns false
         assertFalse(commandResult.equals(new CommandResult("feedback", false, true)));
+
+        // different deferredFeedback value -> returns false
+        CompletableFuture<String> deferredFeedback = new CompletableFuture<>();
+        assertFalse(commandResult.equals(new CommandResult("feedback", deferredFeedback)));
+        assertTrue(new CommandResult("feedback", deferredFeedback)
+                .equals(new CommandResult("feedback", deferredFeedback)));
+    }
+
+    @Test
+    public void getDeferredFeedback() {
+        CompletableFuture<String> deferredFeedback = new CompletableFuture<>();
+        assertEquals(Optional.of(deferredFeedback),
+                new CommandResult("feedback", deferredFeedback).getDeferredFeedback());
+        assertEquals(Optional.empty(), new CommandResult("feedback").getDeferredFeedback());
     }
 
     @Test
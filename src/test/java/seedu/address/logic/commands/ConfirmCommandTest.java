@@ -7,8 +7,11 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -23,6 +26,7 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
 import seedu.address.testutil.PersonBuilder;
 
 /**
@@ -46,6 +50,11 @@ public class ConfirmCommandTest {
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        public long getAddressBookVersion() {
+            throw new UnsupportedOperationException();
+        }
+
         @Override
         public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
             throw new UnsupportedOperationException();
@@ -71,6 +80,11 @@ public class ConfirmCommandTest {
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        public List<Person> getPersonsWithName(Name name) {
+            throw new UnsupportedOperationException();
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new UnsupportedOperationException();
@@ -86,6 +100,21 @@ public class ConfirmCommandTest {
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        public void deletePersons(Collection<Person> targets) {
+            deleted.addAll(targets);
+        }
+
+        @Override
+        public void addPersons(Collection<Person> persons) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void setPersons(Map<Person, Person> replacements) {
+            throw new UnsupportedOperationException();
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new UnsupportedOperationException();
@@ -111,6 +140,16 @@ public class ConfirmCommandTest {
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        public Predicate<? super Person> getFilteredPersonListPredicate() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<Integer> findPersons(PersonContainsKeywordsPredicate predicate) {
+            throw new UnsupportedOperationException();
+        }
+
         @Override
         public boolean hasName(Person person) {
             throw new UnsupportedOperationException();
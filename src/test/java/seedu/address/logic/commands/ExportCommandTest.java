@@ -0,0 +1,96 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.storage.PersonFileReader;
+
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ExportCommand(null, false));
+    }
+
+    @Test
+    public void execute_displayedPersons_writesDisplayedPersonsInBackground() throws Exception {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        Path filePath = testFolder.resolve("persons.csv");
+
+        CommandResult result = new ExportCommand(filePath, false).execute(model);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_STARTED, 1, filePath), result.getFeedbackToUser());
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 1, filePath), getDeferredFeedback(result));
+        assertEquals(model.getFilteredPersonList(), PersonFileReader.readPersons(filePath).getPersons());
+    }
+
+    @Test
+    public void execute_allPersons_writesAddressBook() throws Exception {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        Path filePath = testFolder.resolve("persons.jsonl");
+        List<Person> allPersons = model.getAddressBook().getPersonList();
+
+        CommandResult result = new ExportCommand(filePath, true).execute(model);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, allPersons.size(), filePath),
+                getDeferredFeedback(result));
+        assertEquals(allPersons, PersonFileReader.readPersons(filePath).getPersons());
+    }
+
+    @Test
+    public void execute_unwritablePath_reportsFailure() throws Exception {
+        Path blockingFile = testFolder.resolve("file");
+        Files.createFile(blockingFile);
+        Path filePath = blockingFile.resolve("persons.csv");
+
+        String feedback = getDeferredFeedback(new ExportCommand(filePath, true).execute(model));
+
+        assertTrue(feedback.startsWith(String.format(ExportCommand.MESSAGE_FAILURE, filePath, "")));
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportDisplayedCommand = new ExportCommand(Paths.get("first.csv"), false);
+
+        assertTrue(exportDisplayedCommand.equals(exportDisplayedCommand));
+        assertTrue(exportDisplayedCommand.equals(new ExportCommand(Paths.get("first.csv"), false)));
+        assertFalse(exportDisplayedCommand.equals(1));
+        assertFalse(exportDisplayedCommand.equals(null));
+        assertFalse(exportDisplayedCommand.equals(new ExportCommand(Paths.get("second.csv"), false)));
+        assertFalse(exportDisplayedCommand.equals(new ExportCommand(Paths.get("first.csv"), true)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path filePath = Paths.get("first.csv");
+        String expected = ExportCommand.class.getCanonicalName() + "{filePath=" + filePath + ", isAllPersons=true}";
+        assertEquals(expected, new ExportCommand(filePath, true).toString());
+    }
+
+    private static String getDeferredFeedback(CommandResult result) throws Exception {
+        return result.getDeferredFeedback().get().toCompletableFuture().get(5, TimeUnit.SECONDS);
+    }
+}
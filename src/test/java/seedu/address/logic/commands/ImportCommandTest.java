@@ -0,0 +1,150 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.storage.PersonFileReader;
+
+public class ImportCommandTest {
+
+    private static final String HEADER = "name,phone,email,address,propertyType,price,intention";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ImportCommand(null));
+    }
+
+    @Test
+    public void execute_validFile_addsNewPersonsAndSkipsDuplicates() throws Exception {
+        Path filePath = testFolder.resolve("persons.csv");
+        Files.write(filePath, Arrays.asList(HEADER, toCsv(HOON), toCsv(BENSON), toCsv(HOON)), StandardCharsets.UTF_8);
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addPerson(HOON);
+
+        CommandResult result = new ImportCommand(filePath, Runnable::run).execute(model);
+
+        assertEquals(String.format(ImportCommand.MESSAGE_STARTED, filePath), result.getFeedbackToUser());
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 1, filePath)
+                + String.format(ImportCommand.MESSAGE_DUPLICATES_SKIPPED, 2), getDeferredFeedback(result));
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void execute_personAddedWhileReading_skipsPersonAsDuplicate() throws Exception {
+        Path filePath = testFolder.resolve("persons.csv");
+        Files.write(filePath, Arrays.asList(HEADER, toCsv(HOON)), StandardCharsets.UTF_8);
+        Model model = new ModelManager();
+        CompletableFuture<Runnable> modelUpdate = new CompletableFuture<>();
+
+        CommandResult result = new ImportCommand(filePath, modelUpdate::complete).execute(model);
+        // the file has been read once the model update is handed over, but the persons are not added until it runs
+        Runnable addPersons = modelUpdate.get(5, TimeUnit.SECONDS);
+        model.addPerson(HOON);
+        addPersons.run();
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 0, filePath)
+                + String.format(ImportCommand.MESSAGE_DUPLICATES_SKIPPED, 1), getDeferredFeedback(result));
+        assertEquals(Arrays.asList(HOON), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void execute_invalidLines_reportsFirstErrors() throws Exception {
+        Path filePath = testFolder.resolve("persons.csv");
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        for (int i = 0; i < ImportCommand.MAX_REPORTED_ERRORS + 2; i++) {
+            lines.add("Bad Row");
+        }
+        Files.write(filePath, lines, StandardCharsets.UTF_8);
+        Model model = new ModelManager();
+
+        String result = getDeferredFeedback(new ImportCommand(filePath, Runnable::run).execute(model));
+
+        List<String> errors = PersonFileReader.readPersons(filePath).getErrors();
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, 0, filePath)
+                + String.format(ImportCommand.MESSAGE_INVALID_LINES_SKIPPED, errors.size(),
+                        String.join("\n", errors.subList(0, ImportCommand.MAX_REPORTED_ERRORS)))
+                + String.format(ImportCommand.MESSAGE_MORE_INVALID_LINES, 2);
+        assertEquals(expectedMessage, result);
+        assertEquals(new AddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void execute_missingFile_reportsFailure() throws Exception {
+        Path filePath = testFolder.resolve("missing.jsonl");
+        Model model = new ModelManager();
+
+        String feedback = getDeferredFeedback(new ImportCommand(filePath, Runnable::run).execute(model));
+
+        // the message of the NoSuchFileException is the path of the missing file
+        assertEquals(String.format(ImportCommand.MESSAGE_READ_FAILURE, filePath, filePath), feedback);
+        assertEquals(new ModelManager(), model);
+    }
+
+    @Test
+    public void execute_csvWithoutHeader_reportsFailure() throws Exception {
+        Path filePath = testFolder.resolve("persons.csv");
+        Files.write(filePath, Arrays.asList(toCsv(HOON)), StandardCharsets.UTF_8);
+
+        String feedback = getDeferredFeedback(new ImportCommand(filePath, Runnable::run).execute(new ModelManager()));
+
+        assertEquals(String.format(ImportCommand.MESSAGE_READ_FAILURE, filePath,
+                PersonFileReader.MESSAGE_MISSING_HEADER), feedback);
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importFirstCommand = new ImportCommand(Paths.get("first.csv"));
+        ImportCommand importSecondCommand = new ImportCommand(Paths.get("second.csv"));
+
+        assertTrue(importFirstCommand.equals(importFirstCommand));
+        assertTrue(importFirstCommand.equals(new ImportCommand(Paths.get("first.csv"))));
+        assertFalse(importFirstCommand.equals(1));
+        assertFalse(importFirstCommand.equals(null));
+        assertFalse(importFirstCommand.equals(importSecondCommand));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path filePath = Paths.get("first.csv");
+        String expected = ImportCommand.class.getCanonicalName() + "{filePath=" + filePath + "}";
+        assertEquals(expected, new ImportCommand(filePath).toString());
+    }
+
+    private static String getDeferredFeedback(CommandResult result) throws Exception {
+        return result.getDeferredFeedback().get().toCompletableFuture().get(5, TimeUnit.SECONDS);
+    }
+
+    private static String toCsv(Person person) {
+        return String.join(",", person.getName().fullName, person.getPhone().value, person.getEmail().value,
+                "\"" + person.getAddress().value + "\"", person.getPropertyType().value, person.getPrice().value,
+                person.getIntention().intentionName);
+    }
+}
@@ -1,8 +1,11 @@
 package seedu.address.logic.parser;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.file.Paths;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -10,7 +13,9 @@ import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.ConfirmCommand;
 import seedu.address.logic.commands.ConfirmationManager;
 import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 public class AddressBookParserTest {
@@ -40,6 +45,18 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand("delete 1") instanceof DeleteCommand);
     }
 
+    @Test
+    public void parseCommandImportParsesToImport() throws Exception {
+        assertEquals(new ImportCommand(Paths.get("data", "listings.csv")),
+                parser.parseCommand("import data/listings.csv"));
+    }
+
+    @Test
+    public void parseCommandExportParsesToExport() throws Exception {
+        assertEquals(new ExportCommand(Paths.get("listings.jsonl"), true),
+                parser.parseCommand("export listings.jsonl all/"));
+    }
+
     @Test
     public void parseCommandSingleTokenYesNoConfirmationBehavior() throws Exception {
         // when no pending confirmation, 'yes' and 'no' map to ConfirmCommand yes/no
@@ -2,6 +2,9 @@ package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import org.junit.jupiter.api.Test;
 
 public class ArgumentTokenizerTest {
@@ -15,4 +18,40 @@ public class ArgumentTokenizerTest {
         assertEquals(1, map.getAllValues(CliSyntax.PREFIX_CONFIRM).size());
         assertEquals(2, map.getAllValues(CliSyntax.PREFIX_NAME).size());
     }
+
+    @Test
+    public void tokenize_noPrefixes_allTakenAsPreamble() {
+        ArgumentMultimap map = ArgumentTokenizer.tokenize("  some random string /t tag with trailing spaces ");
+        assertEquals("some random string /t tag with trailing spaces", map.getPreamble());
+    }
+
+    @Test
+    public void tokenize_prefixWithoutPrecedingSpace_notRecognized() {
+        ArgumentMultimap map = ArgumentTokenizer.tokenize("n/Alice e/hip/900 p/", CliSyntax.PREFIX_NAME,
+                CliSyntax.PREFIX_EMAIL, CliSyntax.PREFIX_PHONE);
+        assertEquals("n/Alice", map.getPreamble());
+        assertEquals(Collections.singletonList("hip/900"), map.getAllValues(CliSyntax.PREFIX_EMAIL));
+        assertEquals(Collections.singletonList(""), map.getAllValues(CliSyntax.PREFIX_PHONE));
+        assertEquals(Collections.emptyList(), map.getAllValues(CliSyntax.PREFIX_NAME));
+    }
+
+    @Test
+    public void tokenize_prefixesSharingCharacters_recognizesEachPrefix() {
+        ArgumentMultimap map = ArgumentTokenizer.tokenize(" p/9123 pr/ 500000  pt/hdb p/ pr/",
+                CliSyntax.PREFIX_PHONE, CliSyntax.PREFIX_PRICE, CliSyntax.PREFIX_PROPERTY_TYPE);
+        assertEquals("", map.getPreamble());
+        assertEquals(Arrays.asList("9123", ""), map.getAllValues(CliSyntax.PREFIX_PHONE));
+        assertEquals(Arrays.asList("500000", ""), map.getAllValues(CliSyntax.PREFIX_PRICE));
+        assertEquals(Collections.singletonList("hdb"), map.getAllValues(CliSyntax.PREFIX_PROPERTY_TYPE));
+    }
+
+    @Test
+    public void tokenize_longerPrefixMatches_recognizesLongestPrefix() {
+        Prefix shortPrefix = new Prefix("p");
+        Prefix longPrefix = new Prefix("pp");
+        ArgumentMultimap map = ArgumentTokenizer.tokenize("x pp1 p2 ppp3", shortPrefix, longPrefix);
+        assertEquals("x", map.getPreamble());
+        assertEquals(Collections.singletonList("2"), map.getAllValues(shortPrefix));
+        assertEquals(Arrays.asList("1", "p3"), map.getAllValues(longPrefix));
+    }
 }
@@ -0,0 +1,50 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.storage.PersonFileFormat;
+
+public class ExportCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE);
+
+    private final ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_missingFilePath_throwsParseException() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " all/", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_valueAfterAll_throwsParseException() {
+        assertParseFailure(parser, " listings.csv all/everything", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_duplicateAll_throwsParseException() {
+        assertParseFailure(parser, " listings.csv all/ all/",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_ALL));
+    }
+
+    @Test
+    public void parse_unsupportedExtension_throwsParseException() {
+        assertParseFailure(parser, " listings.xlsx", PersonFileFormat.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validArgs_returnsExportCommand() {
+        assertParseSuccess(parser, " listings.csv", new ExportCommand(Paths.get("listings.csv"), false));
+        assertParseSuccess(parser, " exports/listings.jsonl all/",
+                new ExportCommand(Paths.get("exports", "listings.jsonl"), true));
+    }
+}
@@ -152,6 +152,40 @@ public class FindCommandParserTest {
                 expectedFindCommand);
     }
 
+    @Test
+    public void parse_priceRangeWithSpaces_returnsFindCommand() {
+        PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(
+                Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), Collections.emptyList(),
+                Arrays.asList("1,000-2,000.50", "3000"), Collections.emptyList(), Collections.emptyList());
+        FindCommand expectedFindCommand = new FindCommand(predicate);
+
+        assertParseSuccess(parser, " pr/ 1,000 - 2,000.50 3000", expectedFindCommand);
+        assertParseSuccess(parser, " pr/1,000-2,000.50 pr/3000", expectedFindCommand);
+    }
+
+    @Test
+    public void joinLeadingPriceRange() {
+        assertEquals("1000-2000", FindCommandParser.joinLeadingPriceRange("1000 - 2000"));
+        assertEquals("1,000.5-2,000 3000 - 4000",
+                FindCommandParser.joinLeadingPriceRange("1,000.5 -\t2,000 3000 - 4000"));
+
+        // not a leading price range -> unchanged
+        assertEquals("1000-2000", FindCommandParser.joinLeadingPriceRange("1000-2000"));
+        assertEquals("1000 -", FindCommandParser.joinLeadingPriceRange("1000 -"));
+        assertEquals("abc - 2000", FindCommandParser.joinLeadingPriceRange("abc - 2000"));
+        assertEquals("1000 - abc", FindCommandParser.joinLeadingPriceRange("1000 - abc"));
+        assertEquals("1000 2000", FindCommandParser.joinLeadingPriceRange("1000 2000"));
+        assertEquals("", FindCommandParser.joinLeadingPriceRange(""));
+        // only ASCII digits and whitespace make up a range, e.g. not Arabic-Indic digits or an em space
+        String arabicIndicThousand = "\u0661\u0660\u0660\u0660";
+        assertEquals(arabicIndicThousand + " - 2000",
+                FindCommandParser.joinLeadingPriceRange(arabicIndicThousand + " - 2000"));
+        assertEquals("1000 - " + arabicIndicThousand,
+                FindCommandParser.joinLeadingPriceRange("1000 - " + arabicIndicThousand));
+        assertEquals("1\u0660\u0660 - 2000", FindCommandParser.joinLeadingPriceRange("1\u0660\u0660 - 2000"));
+        assertEquals("1000\u2003- 2000", FindCommandParser.joinLeadingPriceRange("1000\u2003- 2000"));
+    }
+
     @Test
     public void validatePriceKeyword_validSinglePrice_returnsNull() {
         assertNull(FindCommandParser.validatePriceKeyword("2000"));
@@ -2,16 +2,19 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
@@ -80,6 +83,89 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void getVersion_personsModified_versionChanges() {
+        long version = addressBook.getVersion();
+        addressBook.addPerson(ALICE);
+        assertNotEquals(version, addressBook.getVersion());
+
+        version = addressBook.getVersion();
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withPrice("123456").build());
+        assertNotEquals(version, addressBook.getVersion());
+
+        version = addressBook.getVersion();
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+        assertNotEquals(version, addressBook.getVersion());
+
+        version = addressBook.getVersion();
+        addressBook.resetData(getTypicalAddressBook());
+        assertNotEquals(version, addressBook.getVersion());
+    }
+
+    @Test
+    public void getVersion_batchOperations_versionChangesOnlyForNonEmptyBatches() {
+        long version = addressBook.getVersion();
+        addressBook.addPersons(Collections.emptyList());
+        addressBook.removePersons(Collections.emptyList());
+        addressBook.setPersons(Collections.emptyMap());
+        assertEquals(version, addressBook.getVersion());
+
+        addressBook.addPersons(Collections.singletonList(ALICE));
+        assertNotEquals(version, addressBook.getVersion());
+
+        version = addressBook.getVersion();
+        addressBook.setPersons(Map.of(ALICE, new PersonBuilder(ALICE).withPrice("123456").build()));
+        assertNotEquals(version, addressBook.getVersion());
+
+        version = addressBook.getVersion();
+        addressBook.removePersons(addressBook.getPersonList());
+        assertNotEquals(version, addressBook.getVersion());
+        assertTrue(addressBook.getPersonList().isEmpty());
+    }
+
+    @Test
+    public void getVersion_readOnlyOperations_versionUnchanged() {
+        long version = addressBook.getVersion();
+        addressBook.hasPerson(ALICE);
+        addressBook.hasName(ALICE);
+        addressBook.getPersonList();
+        assertEquals(version, addressBook.getVersion());
+    }
+
+    @Test
+    public void getChangeLog_personsModified_logsChanges() {
+        PersonChangeLog changeLog = addressBook.getChangeLog().get();
+        Person editedAlice = new PersonBuilder(ALICE).withPrice("123456").build();
+
+        addressBook.addPerson(ALICE);
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.addPersons(List.of(BOB));
+        addressBook.removePersons(addressBook.getPersonList());
+
+        assertEquals(List.of(PersonChange.added(ALICE), PersonChange.edited(ALICE, editedAlice),
+                PersonChange.added(BOB), PersonChange.removed(editedAlice), PersonChange.removed(BOB)),
+                addressBook.getChangeLog().get().getChangesSince(changeLog).get());
+    }
+
+    @Test
+    public void getChangeLog_personsReplacedWholesale_earlierLogUnknown() {
+        PersonChangeLog changeLog = addressBook.getChangeLog().get();
+        addressBook.resetData(getTypicalAddressBook());
+        assertFalse(addressBook.getChangeLog().get().getChangesSince(changeLog).isPresent());
+    }
+
+    @Test
+    public void getChangeLog_personsSwapped_earlierLogUnknown() {
+        Person editedAlice = new PersonBuilder(ALICE).withPrice("123456").build();
+        addressBook.addPersons(List.of(ALICE, editedAlice));
+        PersonChangeLog changeLog = addressBook.getChangeLog().get();
+
+        // replaying the two edits one after another would leave only one of the persons
+        addressBook.setPersons(Map.of(ALICE, editedAlice, editedAlice, ALICE));
+
+        assertFalse(addressBook.getChangeLog().get().getChangesSince(changeLog).isPresent());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
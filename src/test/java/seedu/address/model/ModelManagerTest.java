@@ -7,6 +7,8 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -132,6 +134,20 @@ public class ModelManagerTest {
         assertFalse(modelManager.equals(new ModelManager(addressBook, differentUserPrefs)));
     }
 
+    @Test
+    public void addPerson_filteredList_keepsFilter() {
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Carl")));
+
+        modelManager.addPerson(ALICE);
+        modelManager.addPersons(Arrays.asList(CARL, DANIEL));
+        assertEquals(Arrays.asList(ALICE, CARL), modelManager.getFilteredPersonList());
+
+        Person editedCarl = new PersonBuilder(CARL).withName("Daniel Kurz").build();
+        modelManager.setPerson(CARL, editedCarl);
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void sortFilteredPersonListByName_sortsAlphabetically() {
         AddressBook addressBook = new AddressBookBuilder()
@@ -173,4 +189,27 @@ public class ModelManagerTest {
 
     }
 
+    @Test
+    public void sortFilteredPersonListByName_thenModified_keepsOrder() {
+        AddressBook addressBook = new AddressBookBuilder()
+                .withPerson(DANIEL)
+                .withPerson(BENSON)
+                .build();
+        ModelManager modelManager = new ModelManager(addressBook, new UserPrefs());
+        modelManager.sortFilteredPersonListByName();
+
+        modelManager.addPerson(CARL);
+        modelManager.addPerson(ALICE);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL, DANIEL), modelManager.getFilteredPersonList());
+
+        Person editedCarl = new PersonBuilder(CARL).withName("Zack Kurz").build();
+        modelManager.setPerson(CARL, editedCarl);
+        modelManager.deletePerson(BENSON);
+        assertEquals(Arrays.asList(ALICE, DANIEL, editedCarl), modelManager.getFilteredPersonList());
+
+        // sorting again keeps the same order
+        modelManager.sortFilteredPersonListByName();
+        assertEquals(Arrays.asList(ALICE, DANIEL, editedCarl), modelManager.getFilteredPersonList());
+    }
+
 }
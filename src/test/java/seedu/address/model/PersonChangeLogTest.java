@@ -0,0 +1,63 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonChangeLogTest {
+
+    private final PersonChangeLog changeLog = new PersonChangeLog();
+
+    @Test
+    public void getChangesSince_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> changeLog.getChangesSince(null));
+    }
+
+    @Test
+    public void getChangesSince_sameLog_noChanges() {
+        assertEquals(Collections.emptyList(), changeLog.getChangesSince(changeLog).get());
+    }
+
+    @Test
+    public void getChangesSince_earlierLog_changesInOrder() {
+        PersonChange editAlice = PersonChange.edited(ALICE, new PersonBuilder(ALICE).withPrice("123456").build());
+        PersonChangeLog afterAdd = changeLog.append(List.of(PersonChange.added(ALICE), PersonChange.added(BENSON)));
+        PersonChangeLog afterEdit = afterAdd.append(List.of(editAlice));
+        PersonChangeLog afterRemove = afterEdit.append(List.of(PersonChange.removed(BENSON)));
+
+        assertEquals(List.of(editAlice, PersonChange.removed(BENSON)), afterRemove.getChangesSince(afterAdd).get());
+        assertEquals(List.of(PersonChange.added(ALICE), PersonChange.added(BENSON), editAlice,
+                PersonChange.removed(BENSON)), afterRemove.getChangesSince(changeLog).get());
+    }
+
+    @Test
+    public void getChangesSince_unrelatedOrLaterLog_empty() {
+        PersonChangeLog later = changeLog.append(List.of(PersonChange.added(ALICE)));
+        assertFalse(changeLog.getChangesSince(later).isPresent());
+        assertFalse(later.getChangesSince(new PersonChangeLog()).isPresent());
+    }
+
+    @Test
+    public void getChangesSince_tooManyChangesSince_empty() {
+        PersonChangeLog log = changeLog;
+        for (int i = 0; i < PersonChangeLog.MAX_CHANGES; i++) {
+            log = log.append(List.of(PersonChange.added(ALICE)));
+        }
+        PersonChangeLog full = log;
+        assertEquals(PersonChangeLog.MAX_CHANGES, full.getChangesSince(changeLog).get().size());
+
+        PersonChangeLog overflowed = full.append(List.of(PersonChange.removed(ALICE)));
+
+        assertFalse(overflowed.getChangesSince(changeLog).isPresent());
+        assertFalse(overflowed.getChangesSince(full).isPresent());
+    }
+}
@@ -0,0 +1,252 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.person.PersonSearchIndex;
+
+public class QueryExecutorTest {
+
+    private final ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final ManualExecutor worker = new ManualExecutor();
+    private final ManualExecutor publisher = new ManualExecutor();
+    private final QueryExecutor queryExecutor = createQueryExecutor(0);
+
+    @Test
+    public void submit_smallAddressBook_filtersSynchronously() {
+        QueryExecutor synchronousExecutor = createQueryExecutor(Integer.MAX_VALUE);
+        CompletableFuture<Integer> matchCount = synchronousExecutor.submit(nameContains("Meier"));
+
+        assertTrue(matchCount.isDone());
+        assertEquals(2, matchCount.join().intValue());
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+        assertTrue(worker.isEmpty());
+    }
+
+    @Test
+    public void submit_largeAddressBook_publishesMatchesOnPublisher() {
+        CompletableFuture<Integer> matchCount = queryExecutor.submit(nameContains("Meier"));
+        assertFalse(matchCount.isDone());
+        assertTrue(model.getFilteredPersonList().isEmpty());
+
+        worker.runAll();
+        assertFalse(matchCount.isDone());
+        publisher.runAll();
+
+        assertEquals(2, matchCount.join().intValue());
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void submit_personAddedDuringQuery_testsAddedPerson() {
+        CompletableFuture<Integer> matchCount = queryExecutor.submit(nameContains("Meier", "Hoon"));
+        model.addPerson(HOON);
+        worker.runAll();
+        publisher.runAll();
+
+        assertEquals(3, matchCount.join().intValue());
+        assertEquals(Arrays.asList(BENSON, DANIEL, HOON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void submit_newerQuery_cancelsQueryInFlight() {
+        CompletableFuture<Integer> firstMatchCount = queryExecutor.submit(nameContains("Meier"));
+        worker.runAll();
+        CompletableFuture<Integer> secondMatchCount = queryExecutor.submit(nameContains("Carl"));
+        worker.runAll();
+        publisher.runAll();
+
+        assertTrue(firstMatchCount.isCancelled());
+        assertEquals(1, secondMatchCount.join().intValue());
+        assertEquals(Collections.singletonList(CARL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void submit_predicateChangedDuringQuery_cancelsQuery() {
+        CompletableFuture<Integer> matchCount = queryExecutor.submit(nameContains("Meier"));
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        worker.runAll();
+        publisher.runAll();
+
+        assertTrue(matchCount.isCancelled());
+        assertEquals(model.getAddressBook().getPersonList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void submit_narrowerQuery_refinesPreviousMatches() {
+        queryExecutor.submit(nameContains("Meier"));
+        worker.runAll();
+        publisher.runAll();
+
+        // the previous matches stay listed until they are tested
+        CompletableFuture<Integer> matchCount = queryExecutor.submit(nameContains("Daniel Meier"));
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+        worker.runAll();
+        publisher.runAll();
+
+        assertEquals(1, matchCount.join().intValue());
+        assertEquals(Collections.singletonList(DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void submit_cachedQuery_listsMatchesSynchronously() {
+        queryExecutor.submit(nameContains("Meier"));
+        worker.runAll();
+        publisher.runAll();
+        queryExecutor.submit(nameContains("Carl"));
+        worker.runAll();
+        publisher.runAll();
+
+        CompletableFuture<Integer> matchCount = queryExecutor.submit(nameContains("meier"));
+
+        assertTrue(matchCount.isDone());
+        assertEquals(2, matchCount.join().intValue());
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+        assertTrue(worker.isEmpty());
+    }
+
+    @Test
+    public void submit_cachedQueryAfterAddressBookChanged_testsEveryPerson() {
+        queryExecutor.submit(nameContains("Meier"));
+        worker.runAll();
+        publisher.runAll();
+        model.addPerson(HOON);
+
+        CompletableFuture<Integer> matchCount = queryExecutor.submit(nameContains("Meier"));
+        assertFalse(matchCount.isDone());
+        worker.runAll();
+        publisher.runAll();
+
+        assertEquals(3, matchCount.join().intValue());
+        assertEquals(Arrays.asList(BENSON, DANIEL, HOON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void submit_moreQueriesThanCacheCapacity_evictsLeastRecentlyUsed() {
+        for (int i = 0; i <= QueryExecutor.CACHE_CAPACITY; i++) {
+            queryExecutor.submit(nameContains("Meier" + i));
+            worker.runAll();
+            publisher.runAll();
+        }
+
+        assertFalse(queryExecutor.submit(nameContains("Meier0")).isDone());
+        worker.runAll();
+        publisher.runAll();
+        assertTrue(queryExecutor.submit(nameContains("Meier" + QueryExecutor.CACHE_CAPACITY)).isDone());
+    }
+
+    @Test
+    public void submit_fewCandidatesInLargeAddressBook_filtersSynchronously() {
+        CompletableFuture<Integer> matchCount = createQueryExecutor(5).submit(nameContains("Meier"));
+
+        assertTrue(matchCount.isDone());
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+        assertTrue(worker.isEmpty());
+
+        // the candidates are looked up again once the address book changes
+        model.addPerson(HOON);
+        assertEquals(Arrays.asList(BENSON, DANIEL, HOON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void submit_keywordTooShortForIndex_testsEveryPerson() {
+        CompletableFuture<Integer> matchCount = createQueryExecutor(5).submit(nameContains("Me"));
+        assertFalse(matchCount.isDone());
+        worker.runAll();
+        publisher.runAll();
+
+        assertEquals(3, matchCount.join().intValue());
+        assertEquals(Arrays.asList(BENSON, DANIEL, ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void submit_queryFails_restoresPredicateAndFails() {
+        model.updateFilteredPersonList(person -> person.equals(CARL));
+        PersonContainsKeywordsPredicate failingPredicate = new PersonContainsKeywordsPredicate(
+                Collections.singletonList("Meier"), Collections.emptyList(), Collections.emptyList(),
+                Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), Collections.emptyList()) {
+            @Override
+            public boolean test(Person person) {
+                throw new IllegalStateException("test failure");
+            }
+        };
+
+        CompletableFuture<Integer> matchCount = queryExecutor.submit(failingPredicate);
+        worker.runAll();
+        publisher.runAll();
+
+        assertTrue(matchCount.isCompletedExceptionally());
+        ExecutionException thrown = assertThrows(ExecutionException.class, matchCount::get);
+        assertEquals(QueryExecutor.MESSAGE_QUERY_FAILED, thrown.getCause().getMessage());
+        assertEquals(Collections.singletonList(CARL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void submit_cancelledQueryResultInstalledAgain_testsUntestedPersons() {
+        queryExecutor.submit(nameContains("Meier"));
+        Predicate<? super Person> partialResult = model.getFilteredPersonListPredicate();
+        queryExecutor.submit(nameContains("Carl"));
+        worker.runAll();
+        publisher.runAll();
+
+        // as when a preview that cancelled the query restores the list
+        model.updateFilteredPersonList(partialResult::test);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    private QueryExecutor createQueryExecutor(int minAsyncSize) {
+        PersonSearchIndex searchIndex = ((AddressBook) model.getAddressBook()).getSearchIndex();
+        return new QueryExecutor(model, searchIndex, worker, publisher, minAsyncSize);
+    }
+
+    private static PersonContainsKeywordsPredicate nameContains(String... keywords) {
+        return new PersonContainsKeywordsPredicate(Arrays.stream(keywords).collect(Collectors.toList()),
+                Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), Collections.emptyList(),
+                Collections.emptyList(), Collections.emptyList());
+    }
+
+    /**
+     * An executor that queues tasks until the test runs them.
+     */
+    private static class ManualExecutor implements Executor {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        boolean isEmpty() {
+            return tasks.isEmpty();
+        }
+
+        void runAll() {
+            while (!tasks.isEmpty()) {
+                tasks.remove().run();
+            }
+        }
+    }
+}
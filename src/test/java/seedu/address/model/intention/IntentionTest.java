@@ -28,6 +28,20 @@ public class IntentionTest {
         Assertions.assertEquals("rent", rentMixed.intentionName);
     }
 
+    @Test
+    public void of_validIntention_returnsSharedInstance() {
+        Assertions.assertSame(Intention.SELL, Intention.of("sell"));
+        Assertions.assertSame(Intention.SELL, Intention.of("SELL"));
+        Assertions.assertSame(Intention.RENT, Intention.of("ReNt"));
+    }
+
+    @Test
+    public void of_invalidIntention_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> Intention.of(null));
+        assertThrows(IllegalArgumentException.class, () -> Intention.of("buy"));
+        assertThrows(IllegalArgumentException.class, () -> Intention.of(" sell"));
+    }
+
     @Test
     public void isValidIntentionName() {
         // null intention name
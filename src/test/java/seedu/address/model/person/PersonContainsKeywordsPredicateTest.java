@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -162,6 +163,22 @@ public class PersonContainsKeywordsPredicateTest {
         assertTrue(a.equals(b)); // same numeric value
     }
 
+    @Test
+    public void hashCode_equalPredicates_returnsSameHashCode() {
+        PersonContainsKeywordsPredicate a = new PersonContainsKeywordsPredicate(
+                Arrays.asList("alex", "Bob"), Collections.emptyList(),
+                Collections.emptyList(), Collections.emptyList(),
+                Arrays.asList("1000.00"), Collections.emptyList(), Collections.emptyList());
+
+        PersonContainsKeywordsPredicate b = new PersonContainsKeywordsPredicate(
+                Arrays.asList("bob", "ALEX", "alex"), Collections.emptyList(),
+                Collections.emptyList(), Collections.emptyList(),
+                Arrays.asList("1,000"), Collections.emptyList(), Collections.emptyList());
+
+        assertTrue(a.equals(b));
+        assertEquals(a.hashCode(), b.hashCode());
+    }
+
     // === Property Type equality tests ===
     @Test
     public void equals_differentPropertyTypeKeywords_returnsFalse() {
@@ -312,4 +329,61 @@ public class PersonContainsKeywordsPredicateTest {
                 Collections.emptyList(), Collections.emptyList());
         assertTrue(predicate.test(person)); // normalization should handle commas/decimals
     }
+
+    @Test
+    public void test_keywordsDifferentCase_returnsTrue() {
+        Person person = new PersonBuilder().withName("Alice Pauline").withPropertyType("HDB 3-room flat").build();
+        PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(
+                Arrays.asList("zzz", "PAUL"), Collections.emptyList(),
+                Collections.emptyList(), Collections.emptyList(),
+                Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        assertTrue(predicate.test(person));
+
+        predicate = new PersonContainsKeywordsPredicate(
+                Collections.emptyList(), Collections.emptyList(),
+                Collections.emptyList(), Collections.emptyList(),
+                Collections.emptyList(), Arrays.asList("hdb 3-ROOM"), Collections.emptyList());
+        assertTrue(predicate.test(person));
+    }
+
+    @Test
+    public void test_noFieldMatches_returnsFalse() {
+        Person person = new PersonBuilder().withName("Alice Pauline").withPrice("2000").build();
+        PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(
+                Arrays.asList("bob"), Arrays.asList("bob"),
+                Arrays.asList("bob"), Arrays.asList("bob"),
+                Arrays.asList("1000-1999"), Arrays.asList("bob"), Arrays.asList("bob"));
+        assertFalse(predicate.test(person));
+    }
+
+    @Test
+    public void isNarrowerThan() {
+        PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(
+                Arrays.asList("al"), Collections.emptyList(), Collections.emptyList(), Collections.emptyList(),
+                Arrays.asList("1000-2000"), Collections.emptyList(), Collections.emptyList());
+
+        // longer keyword and narrower price range -> returns true
+        assertTrue(new PersonContainsKeywordsPredicate(
+                Arrays.asList("ALI", "sal"), Collections.emptyList(), Collections.emptyList(), Collections.emptyList(),
+                Arrays.asList("1500"), Collections.emptyList(), Collections.emptyList()).isNarrowerThan(predicate));
+
+        // same predicate -> returns true
+        assertTrue(predicate.isNarrowerThan(predicate));
+
+        // keyword that does not contain a keyword of the same field -> returns false
+        assertFalse(new PersonContainsKeywordsPredicate(
+                Arrays.asList("bo"), Collections.emptyList(), Collections.emptyList(), Collections.emptyList(),
+                Collections.emptyList(), Collections.emptyList(), Collections.emptyList()).isNarrowerThan(predicate));
+
+        // keyword in another field -> returns false
+        assertFalse(new PersonContainsKeywordsPredicate(
+                Collections.emptyList(), Collections.emptyList(), Arrays.asList("alex"), Collections.emptyList(),
+                Collections.emptyList(), Collections.emptyList(), Collections.emptyList()).isNarrowerThan(predicate));
+
+        // wider price range -> returns false
+        assertFalse(new PersonContainsKeywordsPredicate(
+                Arrays.asList("alex"), Collections.emptyList(), Collections.emptyList(), Collections.emptyList(),
+                Arrays.asList("500-2000"), Collections.emptyList(), Collections.emptyList()).isNarrowerThan(predicate));
+    }
+
 }
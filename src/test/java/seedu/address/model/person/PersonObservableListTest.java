@@ -0,0 +1,89 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonObservableListTest {
+
+    private final PersonObservableList personList = new PersonObservableList();
+
+    @Test
+    public void setAt_someIndexes_replacesPersonsInOneChange() {
+        personList.addAll(Arrays.asList(ALICE, BENSON, CARL));
+        AtomicInteger changeCount = countChanges();
+
+        personList.setAt(Arrays.asList(0, 2), Arrays.asList(DANIEL, BENSON, ELLE));
+
+        assertEquals(Arrays.asList(DANIEL, BENSON, ELLE), personList);
+        assertEquals(1, changeCount.get());
+    }
+
+    @Test
+    public void removeAt_someIndexes_removesPersonsInOneChange() {
+        personList.addAll(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE));
+        AtomicInteger changeCount = countChanges();
+
+        personList.removeAt(Arrays.asList(0, 2, 3));
+
+        assertEquals(Arrays.asList(BENSON, ELLE), personList);
+        assertEquals(1, changeCount.get());
+    }
+
+    @Test
+    public void removeAt_moreIndexesThanListed_removesPersonsInOneChange() {
+        List<Person> persons = createPersons(PersonObservableList.MAX_LISTED_ROWS * 3);
+        personList.addAll(persons);
+        AtomicInteger changeCount = countChanges();
+
+        List<Integer> evenIndexes = IntStream.range(0, persons.size()).filter(i -> i % 2 == 0)
+                .boxed().collect(Collectors.toList());
+        personList.removeAt(evenIndexes);
+
+        List<Person> expectedPersons = IntStream.range(0, persons.size()).filter(i -> i % 2 == 1)
+                .mapToObj(persons::get).collect(Collectors.toList());
+        assertEquals(expectedPersons, personList);
+        assertEquals(1, changeCount.get());
+    }
+
+    @Test
+    public void setAt_moreIndexesThanListed_replacesPersonsInOneChange() {
+        List<Person> persons = createPersons(PersonObservableList.MAX_LISTED_ROWS * 2);
+        personList.addAll(persons);
+        AtomicInteger changeCount = countChanges();
+
+        List<Person> updatedPersons = new ArrayList<>(persons);
+        updatedPersons.replaceAll(person -> new PersonBuilder(person).withPhone("99999999").build());
+        personList.setAt(IntStream.range(0, persons.size()).boxed().collect(Collectors.toList()), updatedPersons);
+
+        assertEquals(updatedPersons, personList);
+        assertEquals(1, changeCount.get());
+    }
+
+    private static List<Person> createPersons(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new PersonBuilder(ALICE).withAddress("Block " + i).build())
+                .collect(Collectors.toList());
+    }
+
+    private AtomicInteger countChanges() {
+        AtomicInteger changeCount = new AtomicInteger();
+        personList.addListener((ListChangeListener<Person>) change -> changeCount.incrementAndGet());
+        return changeCount;
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSearchIndexTest {
+
+    private final UniquePersonList persons = new UniquePersonList();
+
+    @BeforeEach
+    public void setUp() {
+        persons.setPersons(getTypicalPersons());
+    }
+
+    @Test
+    public void getCandidates_keywordTooShort_returnsEmptyOptional() {
+        assertFalse(persons.getSearchIndex().getCandidates(nameKeywords("al")).isPresent());
+    }
+
+    @Test
+    public void getCandidates_priceRange_returnsPersonsInRange() {
+        Set<Person> candidates = persons.getSearchIndex().getCandidates(priceKeywords("499,000 - 500000")).get();
+        assertEquals(getTypicalPersons().stream().filter(person -> person.getPrice().getCents() >= 49900000
+                && person.getPrice().getCents() <= 50000000).collect(Collectors.toSet()), candidates);
+    }
+
+    @Test
+    public void getCandidates_keywordAbsent_returnsNoCandidates() {
+        Set<Person> candidates = persons.getSearchIndex().getCandidates(nameKeywords("zzzzz")).get();
+        assertTrue(candidates.isEmpty());
+    }
+
+    @Test
+    public void getCandidates_mixedCaseKeyword_containsMatches() {
+        Set<Person> candidates = persons.getSearchIndex().getCandidates(nameKeywords("aLIc")).get();
+        assertTrue(candidates.contains(ALICE));
+        assertFalse(candidates.contains(BENSON));
+    }
+
+    @Test
+    public void narrow_sameMatchesAsPredicate() {
+        List<List<String>> keywordLists = Arrays.asList(
+                Arrays.asList("ali"), Arrays.asList("meier", "KUNZ"), Arrays.asList("st"),
+                Arrays.asList("xyz"), Arrays.asList("example.com"), Arrays.asList("ave", "street"));
+        for (String priceKeyword : Arrays.asList("499000", "499000.00", "1-1000000", "0.001", "abc", "1e6-Infinity")) {
+            assertSameMatches(priceKeywords(priceKeyword));
+        }
+        for (List<String> keywords : keywordLists) {
+            assertSameMatches(nameKeywords(keywords.toArray(new String[0])));
+            assertSameMatches(new PersonContainsKeywordsPredicate(
+                    Collections.emptyList(), keywords, keywords, keywords,
+                    Collections.emptyList(), keywords, keywords));
+        }
+    }
+
+    @Test
+    public void narrow_indexChanged_looksUpCandidatesAgain() {
+        PersonContainsKeywordsPredicate predicate = nameKeywords("hoon");
+        Predicate<Person> narrowed = persons.getSearchIndex().narrow(predicate);
+        assertFalse(narrowed.test(HOON));
+
+        persons.add(HOON);
+        assertTrue(narrowed.test(HOON));
+
+        Person editedHoon = new PersonBuilder(HOON).withName("Hean Meier").build();
+        persons.setPerson(HOON, editedHoon);
+        assertFalse(narrowed.test(editedHoon));
+
+        persons.remove(editedHoon);
+        assertTrue(persons.getSearchIndex().getCandidates(nameKeywords("hean")).get().isEmpty());
+    }
+
+    @Test
+    public void remove_equalButDifferentInstance_removesIndexedPerson() {
+        persons.remove(new PersonBuilder(CARL).build());
+        assertTrue(persons.getSearchIndex().getCandidates(nameKeywords("kurz")).get().isEmpty());
+    }
+
+    private void assertSameMatches(PersonContainsKeywordsPredicate predicate) {
+        Predicate<Person> narrowed = persons.getSearchIndex().narrow(predicate);
+        List<Person> expected = getTypicalPersons().stream().filter(predicate).collect(Collectors.toList());
+        List<Person> actual = persons.asUnmodifiableObservableList().stream().filter(narrowed)
+                .collect(Collectors.toList());
+        assertEquals(expected, actual);
+    }
+
+    private static PersonContainsKeywordsPredicate priceKeywords(String... keywords) {
+        return new PersonContainsKeywordsPredicate(Collections.emptyList(), Collections.emptyList(),
+                Collections.emptyList(), Collections.emptyList(), Arrays.asList(keywords), Collections.emptyList(),
+                Collections.emptyList());
+    }
+
+    private static PersonContainsKeywordsPredicate nameKeywords(String... keywords) {
+        return new PersonContainsKeywordsPredicate(Arrays.asList(keywords), Collections.emptyList(),
+                Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), Collections.emptyList(),
+                Collections.emptyList());
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -13,6 +14,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_PRICE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PROPERTY_TYPE_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
 import org.junit.jupiter.api.Test;
@@ -245,4 +247,31 @@ public class PersonTest {
         assertEquals(new Price("0"), person.getPrice());
         assertEquals(new Intention("rent"), person.getIntention());
     }
+
+    @Test
+    public void nameOrder_ignoresCase() {
+        Person lowerCaseAlice = new PersonBuilder(ALICE).withName("alice pauline").build();
+        assertEquals(0, Person.NAME_ORDER.compare(ALICE, lowerCaseAlice));
+        assertTrue(Person.NAME_ORDER.compare(lowerCaseAlice, BENSON) < 0);
+        assertTrue(Person.NAME_ORDER.compare(BENSON, lowerCaseAlice) > 0);
+    }
+
+    @Test
+    public void getSearchText_returnsLowerCasedFields() {
+        Person person = new PersonBuilder().withName("Alice Pauline").withPhone("+65 9435-1253")
+                .withEmail("Alice@Example.com").withAddress("Jurong West").withPropertyType("HDB Flat")
+                .withIntention("rent").build();
+
+        assertEquals("alice pauline", person.getSearchText(SearchField.NAME));
+        assertEquals("+65 9435-1253", person.getSearchText(SearchField.PHONE));
+        assertEquals("alice@example.com", person.getSearchText(SearchField.EMAIL));
+        assertEquals("jurong west", person.getSearchText(SearchField.ADDRESS));
+        assertEquals("hdb flat", person.getSearchText(SearchField.PROPERTY_TYPE));
+        assertEquals("rent", person.getSearchText(SearchField.INTENTION));
+
+        // the text of pooled property types is shared by the persons that have them
+        Person otherPerson = new PersonBuilder(BENSON).withPropertyType("HDB Flat").build();
+        assertSame(person.getSearchText(SearchField.PROPERTY_TYPE),
+                otherPerson.getSearchText(SearchField.PROPERTY_TYPE));
+    }
 }
@@ -0,0 +1,55 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class PriceRangeTest {
+
+    @Test
+    public void fromKeyword_singlePrice_containsOnlyThatPrice() {
+        PriceRange range = PriceRange.fromKeyword("1,000.5");
+        assertEquals(100050, range.getLowerCents());
+        assertEquals(100050, range.getUpperCents());
+        assertTrue(range.contains(100050));
+        assertFalse(range.contains(100049));
+    }
+
+    @Test
+    public void fromKeyword_range_inclusiveBounds() {
+        PriceRange range = PriceRange.fromKeyword("1000 - 1,200");
+        assertTrue(range.contains(100000));
+        assertTrue(range.contains(120000));
+        assertFalse(range.contains(99999));
+        assertFalse(range.contains(120001));
+    }
+
+    @Test
+    public void fromKeyword_boundsBetweenCents_roundedInwards() {
+        PriceRange range = PriceRange.fromKeyword("0.001-0.299");
+        assertEquals(1, range.getLowerCents());
+        assertEquals(29, range.getUpperCents());
+    }
+
+    @Test
+    public void fromKeyword_invalidKeyword_emptyRange() {
+        assertTrue(PriceRange.fromKeyword("abc").isEmpty());
+        assertTrue(PriceRange.fromKeyword("1000-").isEmpty());
+        assertTrue(PriceRange.fromKeyword("-1000").isEmpty());
+        assertTrue(PriceRange.fromKeyword("0.001").isEmpty());
+        assertTrue(PriceRange.fromKeyword("NaN").isEmpty());
+    }
+
+    @Test
+    public void isWithin() {
+        PriceRange range = PriceRange.fromKeyword("1000-2000");
+        assertTrue(PriceRange.fromKeyword("1500").isWithin(range));
+        assertTrue(PriceRange.fromKeyword("1000-2000").isWithin(range));
+        assertTrue(PriceRange.fromKeyword("abc").isWithin(range)); // empty range
+        assertFalse(PriceRange.fromKeyword("900-1500").isWithin(range));
+        assertFalse(range.isWithin(PriceRange.fromKeyword("1500")));
+    }
+
+}
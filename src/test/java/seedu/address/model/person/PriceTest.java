@@ -2,6 +2,8 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -20,6 +22,20 @@ public class PriceTest {
         assertThrows(IllegalArgumentException.class, () -> new Price(invalidPrice));
     }
 
+    @Test
+    public void of_sameValue_returnsSameInstance() {
+        Price price = Price.of("1,000.50");
+        assertSame(price, Price.of("1,000.50"));
+        assertEquals(100050, price.getCents());
+        assertNotSame(price, Price.of("1000.50"));
+    }
+
+    @Test
+    public void of_invalidPrice_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> Price.of(null));
+        assertThrows(IllegalArgumentException.class, () -> Price.of("-100"));
+    }
+
     @Test
     public void isValidPrice() {
         // null price
@@ -105,4 +121,12 @@ public class PriceTest {
         Price price = new Price("850000");
         assertEquals("850000", price.toString());
     }
+
+    @Test
+    public void getCents() {
+        assertEquals(0, new Price("0").getCents());
+        assertEquals(100000, new Price("1,000").getCents());
+        assertEquals(100050, new Price("1,000.5").getCents());
+        assertEquals(9999999999999L, new Price("99,999,999,999.99").getCents());
+    }
 }
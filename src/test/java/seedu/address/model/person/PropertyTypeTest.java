@@ -1,6 +1,8 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -19,6 +21,18 @@ public class PropertyTypeTest {
         assertThrows(IllegalArgumentException.class, () -> new PropertyType(invalidPropertyType));
     }
 
+    @Test
+    public void of_sameValue_returnsSameInstance() {
+        assertSame(PropertyType.of("hdb 3-room flat"), PropertyType.of("hdb 3-room flat"));
+        assertEquals(new PropertyType("hdb 3-room flat"), PropertyType.of("hdb 3-room flat"));
+    }
+
+    @Test
+    public void of_invalidPropertyType_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> PropertyType.of(null));
+        assertThrows(IllegalArgumentException.class, () -> PropertyType.of(" "));
+    }
+
     @Test
     public void isValidPropertyType() {
         // null property type
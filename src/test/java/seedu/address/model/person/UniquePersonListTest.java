@@ -6,14 +6,20 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -46,6 +52,65 @@ public class UniquePersonListTest {
         assertFalse(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void hasName_personWithSameNameInList_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertTrue(uniquePersonList.hasName(editedAlice));
+        assertFalse(uniquePersonList.hasName(BOB));
+    }
+
+    @Test
+    public void hasAddress_personWithSameAddressInList_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person aliceAddressBob = new PersonBuilder(BOB).withAddress(ALICE.getAddress().value).build();
+        assertTrue(uniquePersonList.hasAddress(aliceAddressBob));
+        assertFalse(uniquePersonList.hasAddress(BOB));
+    }
+
+    @Test
+    public void hasName_afterRemovingOneOfTwoPersonsWithSameName_returnsTrue() {
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(editedAlice);
+        uniquePersonList.remove(ALICE);
+        assertTrue(uniquePersonList.hasName(ALICE));
+        assertFalse(uniquePersonList.hasAddress(ALICE));
+        assertFalse(uniquePersonList.contains(ALICE));
+
+        uniquePersonList.remove(editedAlice);
+        assertFalse(uniquePersonList.hasName(ALICE));
+    }
+
+    @Test
+    public void getPersonsWithName_differentCase_returnsPersonsInListOrder() {
+        Person aliceAddressBob = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        Person upperCaseAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase()).build();
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, aliceAddressBob, upperCaseAlice));
+
+        assertEquals(Arrays.asList(ALICE, aliceAddressBob, upperCaseAlice),
+                uniquePersonList.getPersonsWithName(new Name(ALICE.getName().fullName.toLowerCase())));
+        assertTrue(uniquePersonList.getPersonsWithName(new Name("Nobody Here")).isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithName_afterEditAndRemove_returnsCurrentPersons() {
+        Person aliceAddressBob = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        uniquePersonList.setPersons(Arrays.asList(ALICE, aliceAddressBob));
+
+        // an edit that keeps the name keeps the person's place among persons with that name
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(Arrays.asList(editedAlice, aliceAddressBob), uniquePersonList.getPersonsWithName(ALICE.getName()));
+
+        uniquePersonList.setPerson(aliceAddressBob, BOB);
+        assertEquals(Collections.singletonList(editedAlice), uniquePersonList.getPersonsWithName(ALICE.getName()));
+        assertEquals(Collections.singletonList(BOB), uniquePersonList.getPersonsWithName(BOB.getName()));
+
+        uniquePersonList.remove(editedAlice);
+        assertTrue(uniquePersonList.getPersonsWithName(ALICE.getName()).isEmpty());
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -99,6 +164,10 @@ public class UniquePersonListTest {
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         expectedUniquePersonList.add(BOB);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertFalse(uniquePersonList.hasName(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        assertTrue(uniquePersonList.hasAddress(BOB));
     }
 
     @Test
@@ -126,6 +195,88 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void removeAll_existingPersons_removesPersonsInOneChange() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+        AtomicInteger changeCount = countChanges();
+
+        uniquePersonList.removeAll(Arrays.asList(DANIEL, new PersonBuilder(BENSON).build(), DANIEL));
+
+        assertEquals(Arrays.asList(ALICE, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount.get());
+        assertFalse(uniquePersonList.hasName(BENSON));
+        assertTrue(uniquePersonList.getPersonsWithName(DANIEL.getName()).isEmpty());
+    }
+
+    @Test
+    public void removeAll_personDoesNotExist_throwsPersonNotFoundExceptionAndKeepsList() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.removeAll(Arrays.asList(ALICE, CARL)));
+        assertEquals(Arrays.asList(ALICE, BENSON), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void addAll_newPersons_addsPersonsInOneChange() {
+        uniquePersonList.add(ALICE);
+        AtomicInteger changeCount = countChanges();
+
+        uniquePersonList.addAll(Arrays.asList(BENSON, CARL));
+
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount.get());
+        assertTrue(uniquePersonList.contains(CARL));
+    }
+
+    @Test
+    public void addAll_duplicatePersons_throwsDuplicatePersonExceptionAndKeepsList() {
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BENSON, ALICE)));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BENSON, BENSON)));
+        assertEquals(Collections.singletonList(ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(BENSON));
+    }
+
+    @Test
+    public void setPersons_map_replacesPersonsInPlaceInOneChange() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        AtomicInteger changeCount = countChanges();
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+
+        uniquePersonList.setPersons(Map.of(ALICE, editedAlice, CARL, DANIEL));
+
+        assertEquals(Arrays.asList(editedAlice, BENSON, DANIEL), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount.get());
+        assertFalse(uniquePersonList.contains(CARL));
+        assertTrue(uniquePersonList.contains(DANIEL));
+        assertEquals(Collections.singletonList(editedAlice), uniquePersonList.getPersonsWithName(ALICE.getName()));
+    }
+
+    @Test
+    public void setPersons_mapSwappingPersons_success() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON));
+        uniquePersonList.setPersons(Map.of(ALICE, BENSON, BENSON, ALICE));
+        assertEquals(Arrays.asList(BENSON, ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BENSON));
+    }
+
+    @Test
+    public void setPersons_mapTargetNotInList_throwsPersonNotFoundException() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPersons(Map.of(CARL, DANIEL)));
+        assertEquals(Arrays.asList(ALICE, BENSON), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPersons_mapEditedPersonNotUnique_throwsDuplicatePersonException() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(Map.of(ALICE, BENSON)));
+        assertThrows(DuplicatePersonException.class, () ->
+                uniquePersonList.setPersons(Map.of(ALICE, DANIEL, CARL, DANIEL)));
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -153,6 +304,8 @@ public class UniquePersonListTest {
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         expectedUniquePersonList.add(BOB);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
     }
 
     @Test
@@ -171,4 +324,11 @@ public class UniquePersonListTest {
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
     }
+
+    private AtomicInteger countChanges() {
+        AtomicInteger changeCount = new AtomicInteger();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                changeCount.incrementAndGet());
+        return changeCount;
+    }
 }
@@ -0,0 +1,115 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+
+public class AddressBookFormatConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                AddressBookFormatConverter.getBinaryFilePath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("addressbook.bin"),
+                AddressBookFormatConverter.getBinaryFilePath(Paths.get("addressbook.JSON")));
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                AddressBookFormatConverter.getBinaryFilePath(Paths.get("data", "addressbook")));
+    }
+
+    @Test
+    public void convert_jsonToBinary_sameData() throws Exception {
+        JsonAddressBookStorage source = new JsonAddressBookStorage(testFolder.resolve("ab.json"));
+        BinaryAddressBookStorage target = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+        source.saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(AddressBookFormatConverter.convert(source, target));
+        assertEquals(getTypicalAddressBook(), new AddressBook(target.readAddressBook().get()));
+        assertEquals(getTypicalAddressBook(), new AddressBook(source.readAddressBook().get()));
+    }
+
+    @Test
+    public void convert_missingSource_targetNotCreated() throws Exception {
+        JsonAddressBookStorage source = new JsonAddressBookStorage(testFolder.resolve("ab.json"));
+        BinaryAddressBookStorage target = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+
+        assertFalse(AddressBookFormatConverter.convert(source, target));
+        assertFalse(Files.exists(testFolder.resolve("ab.bin")));
+    }
+
+    @Test
+    public void convertIfNewer_missingTarget_converts() throws Exception {
+        JournaledAddressBookStorage source = new JournaledAddressBookStorage(testFolder.resolve("ab.json"));
+        JournaledAddressBookStorage target = createBinaryStorage(testFolder.resolve("ab.bin"));
+        source.saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(AddressBookFormatConverter.convertIfNewer(source, target));
+        assertEquals(getTypicalAddressBook(), new AddressBook(target.readAddressBook().get()));
+    }
+
+    @Test
+    public void convertIfNewer_targetChangedLater_notConverted() throws Exception {
+        JournaledAddressBookStorage source = new JournaledAddressBookStorage(testFolder.resolve("ab.json"));
+        JournaledAddressBookStorage target = createBinaryStorage(testFolder.resolve("ab.bin"));
+        source.saveAddressBook(getTypicalAddressBook());
+        target.saveAddressBook(new AddressBook());
+        setLastModifiedTime(testFolder.resolve("ab.json"), 1000);
+        setLastModifiedTime(testFolder.resolve("ab.bin"), 2000);
+
+        assertFalse(AddressBookFormatConverter.convertIfNewer(source, target));
+        assertEquals(new AddressBook(), new AddressBook(target.readAddressBook().get()));
+    }
+
+    @Test
+    public void convertIfNewer_sourceJournalChangedLater_converts() throws Exception {
+        Path sourcePath = testFolder.resolve("ab.bin");
+        JournaledAddressBookStorage source = createBinaryStorage(sourcePath);
+        JournaledAddressBookStorage target = new JournaledAddressBookStorage(testFolder.resolve("ab.json"));
+        AddressBook addressBook = getTypicalAddressBook();
+        source.saveAddressBook(addressBook);
+        target.saveAddressBook(new AddressBook());
+        addressBook.addPerson(HOON);
+        source.saveAddressBook(addressBook); // only appends to the journal of the source
+        setLastModifiedTime(sourcePath, 1000);
+        setLastModifiedTime(testFolder.resolve("ab.json"), 2000);
+        setLastModifiedTime(testFolder.resolve("ab.bin.journal"), 3000);
+
+        assertTrue(AddressBookFormatConverter.convertIfNewer(source, target));
+        assertEquals(addressBook, new AddressBook(target.readAddressBook().get()));
+        // the target is now the newer one, so it is not converted again
+        assertFalse(AddressBookFormatConverter.convertIfNewer(source, target));
+    }
+
+    @Test
+    public void convertIfNewer_missingSource_notConverted() throws Exception {
+        JournaledAddressBookStorage source = new JournaledAddressBookStorage(testFolder.resolve("ab.json"));
+        JournaledAddressBookStorage target = createBinaryStorage(testFolder.resolve("ab.bin"));
+
+        assertFalse(AddressBookFormatConverter.convertIfNewer(source, target));
+        assertFalse(Files.exists(testFolder.resolve("ab.bin")));
+    }
+
+    private static JournaledAddressBookStorage createBinaryStorage(Path filePath) {
+        return new JournaledAddressBookStorage(filePath, JournaledAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD,
+                new BinaryAddressBookStorage(filePath));
+    }
+
+    private static void setLastModifiedTime(Path filePath, long epochSecond) throws Exception {
+        Files.setLastModifiedTime(filePath, FileTime.from(Instant.ofEpochSecond(epochSecond)));
+    }
+}
@@ -0,0 +1,110 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AsyncAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AsyncAddressBookStorage(null));
+    }
+
+    @Test
+    public void saveAddressBook_thenFlush_writesLatestAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertTrue(storage.flushAddressBook(5000));
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_writerBusy_coalescesSaves() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        CountDownLatch firstSaveStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstSave = new CountDownLatch(1);
+        List<ReadOnlyAddressBook> written = new ArrayList<>();
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(new JsonAddressBookStorage(filePath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path path) throws IOException {
+                firstSaveStarted.countDown();
+                try {
+                    releaseFirstSave.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                written.add(new AddressBook(addressBook));
+            }
+        });
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        firstSaveStarted.await();
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        releaseFirstSave.countDown();
+        assertTrue(storage.flushAddressBook(5000));
+
+        assertEquals(2, written.size());
+        assertEquals(original, written.get(1));
+    }
+
+    @Test
+    public void saveAddressBook_writeFails_notifiesHandler() throws Exception {
+        IOException failure = new IOException("dummy IO exception");
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(
+                new JsonAddressBookStorage(testFolder.resolve("ab.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path path) throws IOException {
+                        throw failure;
+                    }
+                });
+        List<IOException> failures = new ArrayList<>();
+        storage.setSaveFailureHandler(failures::add);
+
+        // the failure is not thrown to the caller
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertTrue(storage.flushAddressBook(5000));
+
+        assertEquals(List.of(failure), failures);
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writesSynchronously() throws Exception {
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(
+                new JsonAddressBookStorage(testFolder.resolve("ab.json")));
+        Path otherFilePath = testFolder.resolve("other.json");
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original, otherFilePath);
+
+        assertEquals(original, new AddressBook(storage.readAddressBook(otherFilePath).get()));
+    }
+}
@@ -0,0 +1,184 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonFileReaderTest {
+
+    private static final String BENSON_CSV =
+            "Benson Meier,98765432,johnd@example.com,\"311, Clementi Ave 2, #02-25\",HDB 4-room flat,950000,sell";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readPersons_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersonFileReader.readPersons(null));
+    }
+
+    @Test
+    public void readPersons_unknownFormat_throwsDataLoadingException() throws Exception {
+        Path filePath = write("persons.txt", BENSON_CSV);
+        assertThrows(DataLoadingException.class, () -> PersonFileReader.readPersons(filePath));
+    }
+
+    @Test
+    public void readPersons_missingFile_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () ->
+                PersonFileReader.readPersons(testFolder.resolve("missing.csv")));
+    }
+
+    @Test
+    public void readPersons_csvWithoutHeader_throwsDataLoadingException() throws Exception {
+        Path filePath = write("persons.csv", BENSON_CSV);
+        assertThrows(DataLoadingException.class, () -> PersonFileReader.readPersons(filePath));
+    }
+
+    @Test
+    public void readPersons_csv_readsValidLinesAndReportsInvalidOnes() throws Exception {
+        Path filePath = write("persons.csv",
+                "\uFEFFName,Phone,Email,Address,Property Type,Price,Intention",
+                BENSON_CSV,
+                "",
+                "Carl Kurz,95352563,heinz@example.com,wall street,semi detached house,\"12,488,888\",sell",
+                "Bad Phone,911a,bad@example.com,wall street,condo,100,sell",
+                "Too Few,95352563");
+
+        PersonFileReader.Result result = PersonFileReader.readPersons(filePath);
+
+        assertEquals(Arrays.asList(BENSON, new PersonBuilder(CARL).withPrice("12,488,888").build()),
+                result.getPersons());
+        assertEquals(Arrays.asList(
+                String.format(PersonFileReader.MESSAGE_LINE_ERROR, 5, Phone.MESSAGE_CONSTRAINTS),
+                String.format(PersonFileReader.MESSAGE_LINE_ERROR, 6,
+                        String.format(PersonFileReader.MESSAGE_WRONG_FIELD_COUNT, 7, 2))),
+                result.getErrors());
+    }
+
+    @Test
+    public void readPersons_csvColumnsInAnyOrder_readsPersons() throws Exception {
+        Path filePath = write("persons.csv",
+                "price,notes,email,intention,name,address,phone,propertytype",
+                "950000,vip,johnd@example.com,SELL,Benson Meier,\"311, Clementi Ave 2, #02-25\",98765432,"
+                        + "HDB 4-room flat");
+
+        PersonFileReader.Result result = PersonFileReader.readPersons(filePath);
+
+        assertEquals(Collections.singletonList(BENSON), result.getPersons());
+        assertTrue(result.getErrors().isEmpty());
+    }
+
+    @Test
+    public void readPersons_jsonLines_readsValidLinesAndReportsInvalidOnes() throws Exception {
+        Path filePath = write("persons.JSONL",
+                "{\"name\":\"Alice Pauline\",\"phone\":\"94351253\",\"email\":\"alice@example.com\","
+                        + "\"address\":\"123, Jurong West Ave 6, #08-111\",\"propertyType\":\"HDB 3-room flat\","
+                        + "\"price\":\"499000\",\"intention\":\"sell\"}",
+                "not json",
+                "null");
+
+        PersonFileReader.Result result = PersonFileReader.readPersons(filePath);
+
+        assertEquals(Collections.singletonList(ALICE), result.getPersons());
+        assertEquals(Arrays.asList(
+                String.format(PersonFileReader.MESSAGE_LINE_ERROR, 2, PersonFileReader.MESSAGE_INVALID_JSON),
+                String.format(PersonFileReader.MESSAGE_LINE_ERROR, 3, PersonFileReader.MESSAGE_INVALID_JSON)),
+                result.getErrors());
+    }
+
+    @Test
+    public void readPersons_csvWithMultiLineFields_reportsAndSkipsTheirLines() throws Exception {
+        Path filePath = write("persons.csv",
+                "name,phone,email,address,propertyType,price,intention",
+                "Carl Kurz,95352563,heinz@example.com,\"wall",
+                "street, \"\"upper\"\"",
+                "floor\",semi detached house,100,sell",
+                BENSON_CSV,
+                "Open Quote,95352563,heinz@example.com,\"wall street");
+
+        PersonFileReader.Result result = PersonFileReader.readPersons(filePath);
+
+        assertEquals(Collections.singletonList(BENSON), result.getPersons());
+        assertEquals(Arrays.asList(
+                String.format(PersonFileReader.MESSAGE_LINE_ERROR, 2,
+                        String.format(PersonFileReader.MESSAGE_MULTI_LINE_FIELD, 4)),
+                String.format(PersonFileReader.MESSAGE_LINE_ERROR, 6, CsvUtil.MESSAGE_UNTERMINATED_QUOTE)),
+                result.getErrors());
+    }
+
+    @Test
+    public void readPersons_maxErrors_keepsFirstErrorsAndCountsAll() throws Exception {
+        Path filePath = write("persons.jsonl", "not json", "{}", "null", "[]");
+
+        PersonFileReader.Result result = PersonFileReader.readPersons(filePath, 2);
+
+        assertTrue(result.getPersons().isEmpty());
+        assertEquals(2, result.getErrors().size());
+        assertTrue(result.getErrors().get(0).startsWith(String.format(PersonFileReader.MESSAGE_LINE_ERROR, 1, "")));
+        assertEquals(4, result.getErrorCount());
+    }
+
+    @Test
+    public void readPersons_severalBatches_keepsLineOrder() throws Exception {
+        List<String> lines = new ArrayList<>();
+        lines.add("name,phone,email,address,propertyType,price,intention");
+        List<String> expectedNames = new ArrayList<>();
+        List<String> expectedErrors = new ArrayList<>();
+        for (int i = 0; i < 2 * PersonFileReader.BATCH_SIZE + 10; i++) {
+            int lineNumber = lines.size() + 1;
+            if (i % 100 == 0) {
+                lines.add("Buyer " + i + ",911a,buyer@example.com,wall street,condo,100,sell");
+                expectedErrors.add(String.format(PersonFileReader.MESSAGE_LINE_ERROR, lineNumber,
+                        Phone.MESSAGE_CONSTRAINTS));
+            } else {
+                lines.add("Buyer " + i + "," + (90000000 + i) + ",buyer@example.com,wall street,condo,100,sell");
+                expectedNames.add("Buyer " + i);
+            }
+        }
+        Path filePath = write("persons.csv", lines.toArray(new String[0]));
+
+        PersonFileReader.Result result = PersonFileReader.readPersons(filePath);
+
+        assertEquals(expectedNames, result.getPersons().stream()
+                .map(person -> person.getName().fullName)
+                .collect(Collectors.toList()));
+        assertEquals(expectedErrors, result.getErrors());
+    }
+
+    @Test
+    public void readPersons_emptyFile_readsNothing() throws Exception {
+        for (String fileName : Arrays.asList("empty.csv", "empty.jsonl")) {
+            PersonFileReader.Result result = PersonFileReader.readPersons(write(fileName));
+            assertTrue(result.getPersons().isEmpty());
+            assertTrue(result.getErrors().isEmpty());
+        }
+    }
+
+    private Path write(String fileName, String... lines) throws IOException {
+        Path filePath = testFolder.resolve(fileName);
+        Files.write(filePath, List.of(lines), StandardCharsets.UTF_8);
+        return filePath;
+    }
+}
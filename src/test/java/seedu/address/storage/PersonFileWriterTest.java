@@ -0,0 +1,59 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonFileWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void writePersons_unknownFormat_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                PersonFileWriter.writePersons(getTypicalPersons(), testFolder.resolve("persons.txt")));
+    }
+
+    @Test
+    public void writePersons_csv_readBackUnchanged() throws Exception {
+        assertRoundTrip(testFolder.resolve("exports").resolve("persons.csv"));
+    }
+
+    @Test
+    public void writePersons_jsonLines_readBackUnchanged() throws Exception {
+        assertRoundTrip(testFolder.resolve("persons.jsonl"));
+    }
+
+    @Test
+    public void writePersons_csv_writesHeaderAndOneLinePerPerson() throws Exception {
+        Path filePath = testFolder.resolve("persons.csv");
+        PersonFileWriter.writePersons(List.of(new PersonBuilder().withAddress("Block 1, \"The\" Tower").build()),
+                filePath);
+
+        assertEquals(List.of(String.join(",", PersonFileFormat.COLUMNS),
+                "Amy Bee,85355255,amy@gmail.com,\"Block 1, \"\"The\"\" Tower\",hdb 4-room flat,1200000,sell"),
+                Files.readAllLines(filePath, StandardCharsets.UTF_8));
+    }
+
+    private static void assertRoundTrip(Path filePath) throws Exception {
+        List<Person> persons = getTypicalPersons();
+        PersonFileWriter.writePersons(persons, filePath);
+
+        PersonFileReader.Result result = PersonFileReader.readPersons(filePath);
+        assertEquals(persons, result.getPersons());
+        assertTrue(result.getErrors().isEmpty());
+    }
+}
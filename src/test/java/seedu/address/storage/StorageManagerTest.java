@@ -2,14 +2,20 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -60,6 +66,67 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void createAddressBookStorage_binaryFormat_convertsJsonDataFile() throws Exception {
+        Path jsonFilePath = getTempFilePath("ab.json");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(jsonFilePath);
+        userPrefs.setAddressBookFormat(AddressBookFormat.BINARY);
+
+        AddressBookStorage addressBookStorage = StorageManager.createAddressBookStorage(userPrefs);
+
+        assertEquals(getTempFilePath("ab.bin"), addressBookStorage.getAddressBookFilePath());
+        assertEquals(getTypicalAddressBook(), new AddressBook(addressBookStorage.readAddressBook().get()));
+        assertTrue(Files.exists(jsonFilePath));
+    }
+
+    @Test
+    public void createAddressBookStorage_jsonFormatAfterBinary_convertsNewerBinaryDataFile() throws Exception {
+        Path jsonFilePath = getTempFilePath("ab.json");
+        Path binaryFilePath = getTempFilePath("ab.bin");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+        AddressBook binaryAddressBook = getTypicalAddressBook();
+        binaryAddressBook.addPerson(HOON);
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(binaryAddressBook);
+        Files.setLastModifiedTime(jsonFilePath, FileTime.from(Instant.ofEpochSecond(1000)));
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(jsonFilePath);
+
+        AddressBookStorage addressBookStorage = StorageManager.createAddressBookStorage(userPrefs);
+
+        assertEquals(jsonFilePath, addressBookStorage.getAddressBookFilePath());
+        assertEquals(binaryAddressBook, new AddressBook(addressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void createAddressBookStorage_binaryFormatWithStaleBinaryDataFile_convertsJsonDataFileAgain()
+            throws Exception {
+        Path jsonFilePath = getTempFilePath("ab.json");
+        Path binaryFilePath = getTempFilePath("ab.bin");
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(new AddressBook());
+        Files.setLastModifiedTime(binaryFilePath, FileTime.from(Instant.ofEpochSecond(1000)));
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(jsonFilePath);
+        userPrefs.setAddressBookFormat(AddressBookFormat.BINARY);
+
+        AddressBookStorage addressBookStorage = StorageManager.createAddressBookStorage(userPrefs);
+
+        assertEquals(binaryFilePath, addressBookStorage.getAddressBookFilePath());
+        assertEquals(getTypicalAddressBook(), new AddressBook(addressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void createAddressBookStorage_jsonFormat_usesJsonDataFile() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(getTempFilePath("ab.json"));
+
+        AddressBookStorage addressBookStorage = StorageManager.createAddressBookStorage(userPrefs);
+
+        assertEquals(getTempFilePath("ab.json"), addressBookStorage.getAddressBookFilePath());
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -73,7 +73,7 @@ public class EditPersonDescriptorBuilder {
      * Sets the {@code PropertyType} of the {@code EditPersonDescriptor} that we are building.
      */
     public EditPersonDescriptorBuilder withPropertyType(String propertyType) {
-        descriptor.setPropertyType(new PropertyType(propertyType));
+        descriptor.setPropertyType(PropertyType.of(propertyType));
         return this;
     }
 
@@ -81,7 +81,7 @@ public class EditPersonDescriptorBuilder {
      * Sets the {@code Price} of the {@code EditPersonDescriptor} that we are building.
      */
     public EditPersonDescriptorBuilder withPrice(String price) {
-        descriptor.setPrice(new Price(price));
+        descriptor.setPrice(Price.of(price));
         return this;
     }
 
@@ -38,9 +38,9 @@ public class PersonBuilder {
         phone = new Phone(DEFAULT_PHONE);
         email = new Email(DEFAULT_EMAIL);
         address = new Address(DEFAULT_ADDRESS);
-        propertyType = new PropertyType(DEFAULT_PROPERTY_TYPE);
-        price = new Price(DEFAULT_PRICE);
-        intention = new Intention(DEFAULT_INTENTION);
+        propertyType = PropertyType.of(DEFAULT_PROPERTY_TYPE);
+        price = Price.of(DEFAULT_PRICE);
+        intention = Intention.of(DEFAULT_INTENTION);
     }
 
     /**
@@ -92,7 +92,7 @@ public class PersonBuilder {
      * Sets the {@code PropertyType} of the {@code Person} that we are building.
      */
     public PersonBuilder withPropertyType(String propertyType) {
-        this.propertyType = new PropertyType(propertyType);
+        this.propertyType = PropertyType.of(propertyType);
         return this;
     }
 
@@ -100,7 +100,7 @@ public class PersonBuilder {
      * Sets the {@code Price} of the {@code Person} that we are building.
      */
     public PersonBuilder withPrice(String price) {
-        this.price = new Price(price);
+        this.price = Price.of(price);
         return this;
     }
 
@@ -108,7 +108,7 @@ public class PersonBuilder {
      * Sets the {@code Intention} of the {@code Person} that we are building.
      */
     public PersonBuilder withIntention(String intention) {
-        this.intention = new Intention(intention);
+        this.intention = Intention.of(intention);
         return this;
     }
 